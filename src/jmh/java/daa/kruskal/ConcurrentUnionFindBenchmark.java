@@ -0,0 +1,78 @@
+package daa.kruskal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ConcurrentUnionFind against the lock-striped StripedUnionFind. Every measured iteration
+// starts from a fresh structure, and each thread unions its share of the same random pairs
+// once, so the score is the time for all threads to finish. Change the thread count with -t.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentUnionFindBenchmark {
+    private static final int STRIPES = 64;
+
+    @Param({"cas", "striped"})
+    private String implementation;
+
+    @Param({"1000000"})
+    private int elements;
+
+    @Param({"4000000"})
+    private int operations;
+
+    private int[] a;
+    private int[] b;
+    private ConcurrentUnionFind cas;
+    private StripedUnionFind striped;
+
+    @Setup(Level.Trial)
+    public void generatePairs() {
+        Random random = new Random(11);
+        a = new int[operations];
+        b = new int[operations];
+        for (int i = 0; i < operations; i++) {
+            a[i] = random.nextInt(elements);
+            b[i] = random.nextInt(elements);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        cas = "cas".equals(implementation) ? new ConcurrentUnionFind(elements) : null;
+        striped = "striped".equals(implementation) ? new StripedUnionFind(elements, STRIPES) : null;
+    }
+
+    @Benchmark
+    public int union(ThreadParams thread) {
+        int threads = thread.getThreadCount();
+        int from = ParallelTasks.chunkStart(operations, threads, thread.getThreadIndex());
+        int to = ParallelTasks.chunkStart(operations, threads, thread.getThreadIndex() + 1);
+        int merged = 0;
+        for (int i = from; i < to; i++) {
+            if (cas != null ? cas.union(a[i], b[i]) : striped.union(a[i], b[i])) {
+                merged++;
+            }
+        }
+        return merged;
+    }
+}
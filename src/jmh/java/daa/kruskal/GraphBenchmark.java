@@ -0,0 +1,137 @@
+package daa.kruskal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Graph construction, edge extraction, the Kruskal sort, union-find and the full MST on every
+// generated family from 1k to 10M edges. The sort and the edge-list MST also run per sort
+// strategy and thread count. Each benchmark returns what it built so the JIT cannot drop the
+// work. Run with: mvn -P benchmarks verify
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class GraphBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"RANDOM", "GRID", "POWER_LAW", "COMPLETE"})
+    private GraphFamily family;
+
+    @Param({"1000", "100000", "10000000"})
+    private int edges;
+
+    private int vertices;
+    private EdgeList input; // Generated order, as added to the graph
+    private EdgeList sorted; // Unique edges by weight, as Kruskal scans them
+    private WeightedGraph graph;
+
+    // Sort settings, kept in their own state so only the benchmarks that take it multiply by
+    // them. The stable sort is single-threaded and ignores threads.
+    @State(Scope.Benchmark)
+    public static class Sort {
+        @Param({"stable", "parallel"})
+        private String strategy;
+
+        @Param({"2", "4", "8"})
+        private int threads;
+
+        int parallelism() {
+            return strategy.equals("stable") ? 1 : threads;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vertices = family.vertices(edges);
+        input = family.edges(edges, SEED);
+        graph = WeightedGraph.fromEdges(vertices, input);
+        sorted = graph.getEdgeList();
+        sorted.sortByWeight();
+    }
+
+    @Benchmark
+    public WeightedGraph addEdge() {
+        WeightedGraph built = new WeightedGraph(vertices);
+        for (int i = 0; i < input.size(); i++) {
+            built.addEdge(input.getSource(i), input.getDestination(i), input.getWeight(i));
+        }
+        return built;
+    }
+
+    @Benchmark
+    public WeightedGraph fromEdges() {
+        return WeightedGraph.fromEdges(vertices, input);
+    }
+
+    @Benchmark
+    public List<WeightedGraph.EdgeInfo> getAllEdges() {
+        return graph.getAllEdges();
+    }
+
+    @Benchmark
+    public EdgeList getEdgeList() {
+        return graph.getEdgeList();
+    }
+
+    // Baseline for sortByWeight, which has to sort a fresh copy every time
+    @Benchmark
+    public EdgeList copyEdges() {
+        return input.copy();
+    }
+
+    // The sort computeMST runs before its scan
+    @Benchmark
+    public EdgeList sortByWeight(Sort sort) {
+        EdgeList copy = input.copy();
+        copy.sortByWeight(sort.parallelism());
+        return copy;
+    }
+
+    // Kruskal's scan on its own: a union per sorted edge, then a find per vertex
+    @Benchmark
+    public long unionFind() {
+        UnionFind uf = new UnionFind(vertices);
+        int[] src = sorted.sources();
+        int[] dst = sorted.destinations();
+        for (int i = 0; i < sorted.size(); i++) {
+            uf.union(src[i], dst[i]);
+        }
+        long roots = 0;
+        for (int v = 0; v < vertices; v++) {
+            roots += uf.find(v);
+        }
+        return roots;
+    }
+
+    @Benchmark
+    public MSTResult kruskal() {
+        return KruskalMST.compute(graph);
+    }
+
+    // Kruskal straight from the generated edge list, which it sorts in place
+    @Benchmark
+    public MSTResult kruskalEdgeList(Sort sort) {
+        return KruskalMST.compute(vertices, input.copy(), false, sort.parallelism());
+    }
+
+    // Whichever engine MinimumSpanningTree picks for the density
+    @Benchmark
+    public MSTResult minimumSpanningTree() {
+        return MinimumSpanningTree.compute(graph);
+    }
+}
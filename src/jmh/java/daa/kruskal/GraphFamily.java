@@ -0,0 +1,110 @@
+package daa.kruskal;
+
+import java.util.Random;
+
+// Generated inputs for the benchmarks. Every family produces exactly the requested number of
+// edges with uniform random weights; only the shape differs:
+//   RANDOM     uniform endpoints, average degree 16 (may contain self-loops and parallel edges)
+//   GRID       square lattice, degree 4
+//   POWER_LAW  preferential attachment, 4 edges per new vertex, so a few hubs own most edges
+//   COMPLETE   the first pairs of a complete graph, density about 0.5
+public enum GraphFamily {
+    RANDOM {
+        @Override
+        int vertices(int edges) {
+            return Math.max(2, edges / 8);
+        }
+
+        @Override
+        void generate(int vertices, EdgeList list, int edges, Random random) {
+            for (int i = 0; i < edges; i++) {
+                list.add(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(MAX_WEIGHT));
+            }
+        }
+    },
+    GRID {
+        @Override
+        int vertices(int edges) {
+            int side = side(edges);
+            return side * side;
+        }
+
+        @Override
+        void generate(int vertices, EdgeList list, int edges, Random random) {
+            int side = side(edges);
+            for (int row = 0; row < side && list.size() < edges; row++) {
+                for (int column = 0; column < side && list.size() < edges; column++) {
+                    int u = row * side + column;
+                    if (column + 1 < side) {
+                        list.add(u, u + 1, random.nextInt(MAX_WEIGHT));
+                    }
+                    if (row + 1 < side && list.size() < edges) {
+                        list.add(u, u + side, random.nextInt(MAX_WEIGHT));
+                    }
+                }
+            }
+        }
+
+        // Smallest side whose lattice has 2 * side * (side - 1) >= edges
+        private int side(int edges) {
+            int side = 2;
+            while (2L * side * (side - 1) < edges) {
+                side++;
+            }
+            return side;
+        }
+    },
+    POWER_LAW {
+        private static final int EDGES_PER_VERTEX = 4;
+
+        @Override
+        int vertices(int edges) {
+            return (edges - 1) / EDGES_PER_VERTEX + 2;
+        }
+
+        @Override
+        void generate(int vertices, EdgeList list, int edges, Random random) {
+            // Picking a random endpoint of an earlier edge picks a vertex in proportion to its degree
+            int[] endpoints = new int[2 * edges];
+            for (int i = 0; i < edges; i++) {
+                int source = i / EDGES_PER_VERTEX + 1;
+                int earlier = 2 * (source - 1) * EDGES_PER_VERTEX;
+                int target = earlier == 0 ? 0 : endpoints[random.nextInt(earlier)];
+                endpoints[2 * i] = source;
+                endpoints[2 * i + 1] = target;
+                list.add(source, target, random.nextInt(MAX_WEIGHT));
+            }
+        }
+    },
+    COMPLETE {
+        @Override
+        int vertices(int edges) {
+            int n = 2;
+            while ((long) n * (n - 1) / 2 < edges) {
+                n++;
+            }
+            return n;
+        }
+
+        @Override
+        void generate(int vertices, EdgeList list, int edges, Random random) {
+            for (int u = 0; u < vertices && list.size() < edges; u++) {
+                for (int v = u + 1; v < vertices && list.size() < edges; v++) {
+                    list.add(u, v, random.nextInt(MAX_WEIGHT));
+                }
+            }
+        }
+    };
+
+    private static final int MAX_WEIGHT = 1 << 30;
+
+    abstract int vertices(int edges);
+
+    abstract void generate(int vertices, EdgeList list, int edges, Random random);
+
+    public EdgeList edges(int edges, long seed) {
+        EdgeList list = new EdgeList(edges);
+        generate(vertices(edges), list, edges, new Random(seed));
+        return list;
+    }
+}
@@ -0,0 +1,66 @@
+package daa.kruskal;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// Baseline for ConcurrentUnionFindBenchmark: plain union-find behind a fixed set of lock stripes
+final class StripedUnionFind {
+    private final int[] parent;
+    private final ReentrantLock[] locks;
+
+    StripedUnionFind(int size, int stripes) {
+        parent = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    boolean union(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return false;
+            }
+            // Lock both roots' stripes in a fixed order, then check they are still roots
+            int first = Math.min(rootX % locks.length, rootY % locks.length);
+            int second = Math.max(rootX % locks.length, rootY % locks.length);
+            locks[first].lock();
+            if (second != first) {
+                locks[second].lock();
+            }
+            try {
+                if (parent[rootX] == rootX && parent[rootY] == rootY) {
+                    parent[Math.min(rootX, rootY)] = Math.max(rootX, rootY);
+                    return true;
+                }
+            } finally {
+                if (second != first) {
+                    locks[second].unlock();
+                }
+                locks[first].unlock();
+            }
+        }
+    }
+
+    private int find(int x) {
+        int stripe = x % locks.length;
+        while (true) {
+            locks[stripe].lock();
+            int p;
+            try {
+                p = parent[x];
+            } finally {
+                locks[stripe].unlock();
+            }
+            if (p == x) {
+                return x;
+            }
+            x = p;
+            stripe = x % locks.length;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Boruvka's algorithm. Every round each component picks its cheapest outgoing edge and all
+// picks are merged at once, so a round at least halves the number of components.
+// The cheapest-edge search runs in parallel over edge ranges with atomic min updates, and the
+// merges run in parallel on a ConcurrentUnionFind.
+// Edges are ranked by (weight, index), which makes the cheapest edge unique and the resulting
+// tree identical to KruskalMST.compute() on the same list; it is returned in the same order.
+public class BoruvkaMST {
+    private static final long NONE = Long.MAX_VALUE;
+
+    private BoruvkaMST() {
+    }
+
+    public static MSTResult compute(WeightedGraph graph) {
+        return compute(graph.getVertices(), graph.getEdgeList(), ParallelTasks.defaultParallelism());
+    }
+
+    public static MSTResult compute(CSRGraph graph, int parallelism) {
+        return compute(graph.getVertices(), graph.toEdgeList(), parallelism);
+    }
+
+    // The given list is not modified
+    public static MSTResult compute(int vertices, EdgeList edges, int parallelism) {
+        int[] src = edges.sources();
+        int[] dst = edges.destinations();
+        int[] weight = edges.weights();
+        int chunks = Math.max(parallelism, 1);
+
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(vertices);
+        int[] component = new int[vertices];
+        AtomicLongArray cheapest = new AtomicLongArray(vertices);
+        long[] accepted = new long[Math.max(vertices - 1, 0)];
+        AtomicInteger acceptedCount = new AtomicInteger();
+
+        // Edges that still cross two components, compacted every round
+        int[] active = new int[edges.size()];
+        for (int i = 0; i < active.length; i++) {
+            active[i] = i;
+        }
+        int activeCount = active.length;
+        int[] kept = new int[chunks];
+
+        while (activeCount > 0 && uf.getComponentCount() > 1) {
+            final int n = activeCount;
+            final int[] live = active;
+            ParallelTasks.run(chunks, parallelism, c -> {
+                for (int v = ParallelTasks.chunkStart(vertices, chunks, c); v < ParallelTasks.chunkStart(vertices, chunks, c + 1); v++) {
+                    component[v] = uf.find(v);
+                    cheapest.set(v, NONE);
+                }
+            });
+
+            // Find the cheapest outgoing edge of every component, dropping internal edges
+            ParallelTasks.run(chunks, parallelism, c -> {
+                int start = ParallelTasks.chunkStart(n, chunks, c);
+                int out = start;
+                for (int k = start; k < ParallelTasks.chunkStart(n, chunks, c + 1); k++) {
+                    int i = live[k];
+                    int cu = component[src[i]];
+                    int cv = component[dst[i]];
+                    if (cu == cv) {
+                        continue;
+                    }
+                    long key = ((long) weight[i] << 32) | i;
+                    atomicMin(cheapest, cu, key);
+                    atomicMin(cheapest, cv, key);
+                    live[out++] = i;
+                }
+                kept[c] = out - start;
+            });
+            activeCount = 0;
+            for (int c = 0; c < chunks; c++) {
+                System.arraycopy(live, ParallelTasks.chunkStart(n, chunks, c), live, activeCount, kept[c]);
+                activeCount += kept[c];
+            }
+
+            // Merge along the chosen edges. They form a forest, so a union only fails for an
+            // edge picked by both of its components, which is then added once.
+            int before = acceptedCount.get();
+            ParallelTasks.run(chunks, parallelism, c -> {
+                for (int v = ParallelTasks.chunkStart(vertices, chunks, c); v < ParallelTasks.chunkStart(vertices, chunks, c + 1); v++) {
+                    long key = cheapest.get(v);
+                    if (key != NONE && uf.union(src[(int) key], dst[(int) key])) {
+                        accepted[acceptedCount.getAndIncrement()] = key;
+                    }
+                }
+            });
+            if (acceptedCount.get() == before) {
+                break;
+            }
+        }
+
+        int edgeCount = acceptedCount.get();
+        Arrays.sort(accepted, 0, edgeCount);
+        EdgeList mstEdges = new EdgeList(Math.max(edgeCount, 1));
+        long totalWeight = 0;
+        for (int k = 0; k < edgeCount; k++) {
+            int i = (int) accepted[k];
+            mstEdges.add(src[i], dst[i], weight[i]);
+            totalWeight += weight[i];
+        }
+        return new MSTResult(mstEdges, totalWeight, null, null);
+    }
+
+    private static void atomicMin(AtomicLongArray array, int index, long value) {
+        long current = array.get(index);
+        while (value < current && !array.compareAndSet(index, current, value)) {
+            current = array.get(index);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package daa.kruskal;
+
+// Immutable compressed sparse row form of an undirected weighted graph.
+// The neighbours of v are neighbors[offsets[v] .. offsets[v + 1]) with matching weights,
+// so iterating a vertex walks two flat primitive slices instead of a List<Edge>.
+public class CSRGraph {
+    private final int vertices;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] weights;
+
+    CSRGraph(int vertices, int[] offsets, int[] neighbors, int[] weights) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.weights = weights;
+    }
+
+    public static CSRGraph of(WeightedGraph graph) {
+        int n = graph.getVertices();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + graph.getNeighbors(u).size();
+        }
+        int[] neighbors = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            int pos = offsets[u];
+            for (Edge edge : graph.getNeighbors(u)) {
+                neighbors[pos] = edge.getDestination();
+                weights[pos] = edge.getWeight();
+                pos++;
+            }
+        }
+        return new CSRGraph(n, offsets, neighbors, weights);
+    }
+
+    // Builds the CSR in two passes over the edge list (count degrees, then scatter)
+    public static CSRGraph fromEdges(int vertices, EdgeList edges) {
+        int m = edges.size();
+        int[] src = edges.sources();
+        int[] dst = edges.destinations();
+        int[] w = edges.weights();
+
+        int[] offsets = new int[vertices + 1];
+        for (int i = 0; i < m; i++) {
+            offsets[src[i] + 1]++;
+            offsets[dst[i] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = new int[vertices];
+        System.arraycopy(offsets, 0, next, 0, vertices);
+        int[] neighbors = new int[offsets[vertices]];
+        int[] weights = new int[offsets[vertices]];
+        for (int i = 0; i < m; i++) {
+            int u = src[i];
+            int v = dst[i];
+            neighbors[next[u]] = v;
+            weights[next[u]++] = w[i];
+            neighbors[next[v]] = u;
+            weights[next[v]++] = w[i];
+        }
+        return new CSRGraph(vertices, offsets, neighbors, weights);
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    // Number of undirected edges (each is stored once per endpoint)
+    public int getEdgeCount() {
+        return neighbors.length / 2;
+    }
+
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    // Slice bounds for iterating: for (int i = start(v); i < end(v); i++) neighbor(i), weight(i)
+    public int start(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int end(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int neighbor(int index) {
+        return neighbors[index];
+    }
+
+    public int weight(int index) {
+        return weights[index];
+    }
+
+    // Backing arrays for algorithms that scan the whole graph; callers must not modify them
+    public int[] offsets() {
+        return offsets;
+    }
+
+    public int[] neighbors() {
+        return neighbors;
+    }
+
+    public int[] weights() {
+        return weights;
+    }
+
+    // Each undirected edge once, emitted from its lower endpoint. Parallel edges are
+    // collapsed to the lightest one, the same list WeightedGraph.getEdgeList() produces.
+    public EdgeList toEdgeList() {
+        EdgeList edges = new EdgeList(getEdgeCount());
+        int[] seenFrom = new int[vertices];
+        int[] emittedAt = new int[vertices];
+        for (int u = 0; u < vertices; u++) {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                int v = neighbors[i];
+                if (v < u) {
+                    continue;
+                }
+                if (seenFrom[v] == u + 1) {
+                    if (weights[i] < edges.getWeight(emittedAt[v])) {
+                        edges.setWeight(emittedAt[v], weights[i]);
+                    }
+                    continue;
+                }
+                seenFrom[v] = u + 1;
+                emittedAt[v] = edges.size();
+                edges.add(u, v, weights[i]);
+            }
+        }
+        return edges;
+    }
+
+    public WeightedGraph toWeightedGraph() {
+        WeightedGraph graph = new WeightedGraph(vertices);
+        for (int u = 0; u < vertices; u++) {
+            boolean loopAdded = false; // A self-loop has two entries in its vertex's slice
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                if (u < neighbors[i]) {
+                    graph.addEdge(u, neighbors[i], weights[i]);
+                } else if (u == neighbors[i]) {
+                    if (!loopAdded) {
+                        graph.addEdge(u, u, weights[i]);
+                    }
+                    loopAdded = !loopAdded;
+                }
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,88 @@
+package daa.kruskal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Lock-free union-find for parallel MST and connectivity passes.
+// Roots are linked by a fixed pseudo-random priority (ties broken by index) with a single CAS,
+// which keeps trees shallow in expectation without rank or size bookkeeping. find() never
+// blocks: path halving is done with a CAS whose failure is simply ignored.
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger count;
+
+    public ConcurrentUnionFind(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+        count = new AtomicInteger(size);
+    }
+
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if (p != grandparent) {
+                parent.compareAndSet(x, p, grandparent); // Path halving, fine to lose the race
+            }
+            x = grandparent;
+        }
+    }
+
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return false;
+            }
+            // Link the lower priority root under the higher one
+            if (higherPriority(x, y)) {
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+            if (parent.compareAndSet(x, x, y)) {
+                count.decrementAndGet();
+                return true;
+            }
+            // x stopped being a root concurrently, retry from the new roots
+        }
+    }
+
+    public boolean connected(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) {
+                return true;
+            }
+            if (parent.get(x) == x) {
+                return false; // x was still a root after y's find, so they were disjoint
+            }
+        }
+    }
+
+    public int getComponentCount() {
+        return count.get();
+    }
+
+    public int getSize() {
+        return parent.length();
+    }
+
+    private static boolean higherPriority(int x, int y) {
+        int px = mix(x);
+        int py = mix(y);
+        return px != py ? px > py : x > y;
+    }
+
+    private static int mix(int x) {
+        x *= 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+}
@@ -0,0 +1,58 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// EdgeList variant with double weights, for inputs with fractional weights
+public class DoubleEdgeList extends EndpointList {
+    private double[] weight;
+
+    public DoubleEdgeList() {
+        this(16);
+    }
+
+    public DoubleEdgeList(int capacity) {
+        super(capacity);
+        weight = new double[src.length];
+    }
+
+    public DoubleEdgeList(int[] src, int[] dst, double[] weight) {
+        super(src, dst, weight.length);
+        this.weight = weight;
+    }
+
+    public void add(int source, int destination, double w) {
+        int i = append(source, destination); // May grow the weight array, so index it after
+        weight[i] = w;
+    }
+
+    public double getWeight(int i) {
+        return weight[i];
+    }
+
+    public double[] weights() {
+        return weight;
+    }
+
+    public double totalWeight() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weight[i];
+        }
+        return total;
+    }
+
+    // Stable sort by weight: edges with equal weight keep their insertion order
+    public void sortByWeight() {
+        reorder(EdgeSorts.stableOrder(weight, size));
+    }
+
+    @Override
+    void resizeWeights(int capacity) {
+        weight = Arrays.copyOf(weight, capacity);
+    }
+
+    @Override
+    void gatherWeights(int[] order) {
+        weight = EdgeSorts.gather(weight, order);
+    }
+}
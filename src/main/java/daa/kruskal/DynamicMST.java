@@ -0,0 +1,320 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Minimum spanning forest maintained under edge insertions and deletions, which doubles as a
+// dynamic connectivity index: connected(u, v) and getTotalWeight() never recompute anything.
+//
+// Tree edges live in a LinkCutTree as extra nodes valued by weight. Inserting (u, v, w)
+// either links two trees or, by the cycle property, swaps out the heaviest edge on the
+// tree path u..v if it is heavier than w: O(log V) amortized.
+// Deleting a tree edge cuts it, then runs a BFS on both halves of the tree that alternates
+// one vertex per side and stops as soon as one side is exhausted. Only non-tree edges
+// incident to that smaller half can reconnect the forest, and the lightest of them is the
+// replacement. Each visited vertex has its whole adjacency scanned, on the larger side too,
+// so a deletion costs O(min side vertices x max degree): cheap when it splits off a small
+// piece of low degree, but O(V + E) in the worst case. This is not the polylogarithmic
+// amortized bound of Holm-de Lichtenberg-Thorup, which needs its level structure.
+public class DynamicMST {
+    private final int vertices;
+    private final LinkCutTree tree;
+
+    // Edge slots, reused through a free list
+    private int[] src;
+    private int[] dst;
+    private int[] weight;
+    private int[] treeNode; // Link-cut node of a tree edge, -1 for non-tree edges
+    private int[] srcPos; // Position of the slot in incident[src]
+    private int[] dstPos; // Position of the slot in incident[dst]
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
+
+    private final LongIntMap slotOf = new LongIntMap(); // (min, max) pair -> slot
+    private final int[][] incident; // Slots of all edges touching a vertex
+    private final int[] degree;
+    private final int[] freeTreeNodes; // Link-cut nodes V.. reserved for tree edges
+    private final int[] slotOfNode; // Link-cut node - V -> slot of the tree edge it stands for
+    private int freeTreeNodeCount;
+
+    // Scratch space for the two-sided search after a tree edge is cut
+    private final int[] mark;
+    private final int[] queueU;
+    private final int[] queueV;
+    private int stamp;
+
+    private int treeEdgeCount;
+    private long totalWeight;
+
+    public DynamicMST(int vertices) {
+        this.vertices = vertices;
+        int treeNodes = Math.max(vertices - 1, 0);
+        tree = new LinkCutTree(vertices + treeNodes);
+        freeTreeNodes = new int[treeNodes];
+        for (int i = 0; i < treeNodes; i++) {
+            freeTreeNodes[i] = vertices + treeNodes - 1 - i;
+        }
+        freeTreeNodeCount = treeNodes;
+        slotOfNode = new int[treeNodes];
+        incident = new int[vertices][];
+        degree = new int[vertices];
+        mark = new int[vertices];
+        queueU = new int[vertices];
+        queueV = new int[vertices];
+        src = new int[16];
+        dst = new int[16];
+        weight = new int[16];
+        treeNode = new int[16];
+        srcPos = new int[16];
+        dstPos = new int[16];
+        freeSlots = new int[16];
+    }
+
+    // Bulk build: one Kruskal pass decides the initial forest, so no path queries are needed
+    public static DynamicMST of(WeightedGraph graph) {
+        DynamicMST mst = new DynamicMST(graph.getVertices());
+        MSTResult initial = KruskalMST.compute(graph, true);
+        EdgeList steps = initial.getStepList();
+        for (int i = 0; i < steps.size(); i++) {
+            int u = steps.getSource(i);
+            int v = steps.getDestination(i);
+            if (u == v) {
+                continue; // Self-loops are never part of the forest
+            }
+            int slot = mst.allocateSlot(u, v, steps.getWeight(i));
+            mst.slotOf.put(pairKey(u, v), slot);
+            if (initial.isAccepted(i)) {
+                mst.linkEdge(slot);
+            }
+        }
+        return mst;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public int getTreeEdgeCount() {
+        return treeEdgeCount;
+    }
+
+    // Number of connected components, isolated vertices included
+    public int getComponentCount() {
+        return vertices - treeEdgeCount;
+    }
+
+    public int getEdgeCount() {
+        return slotOf.size();
+    }
+
+    public boolean hasEdge(int u, int v) {
+        return slotOf.containsKey(pairKey(u, v));
+    }
+
+    public int getWeight(int u, int v) {
+        int slot = slotOf.get(pairKey(u, v));
+        if (slot == LongIntMap.MISSING) {
+            throw new IllegalArgumentException("No edge between " + u + " and " + v + ".");
+        }
+        return weight[slot];
+    }
+
+    public boolean isTreeEdge(int u, int v) {
+        int slot = slotOf.get(pairKey(u, v));
+        return slot != LongIntMap.MISSING && treeNode[slot] >= 0;
+    }
+
+    public boolean connected(int u, int v) {
+        return tree.connected(u, v);
+    }
+
+    public void addEdge(int u, int v, int w) {
+        if (u == v) {
+            throw new IllegalArgumentException("Self-loops are not allowed.");
+        }
+        long pair = pairKey(u, v);
+        if (slotOf.containsKey(pair)) {
+            throw new IllegalArgumentException("Edge already exists.");
+        }
+        int slot = allocateSlot(u, v, w);
+        slotOf.put(pair, slot);
+
+        if (!tree.connected(u, v)) {
+            linkEdge(slot);
+            return;
+        }
+        // Cycle property: the new edge replaces the heaviest tree edge on the path if lighter
+        int heaviest = tree.pathMax(u, v);
+        if (tree.getValue(heaviest) > w) {
+            cutEdge(slotOfNode[heaviest - vertices]);
+            linkEdge(slot);
+        }
+    }
+
+    public boolean removeEdge(int u, int v) {
+        int slot = slotOf.remove(pairKey(u, v));
+        if (slot == LongIntMap.MISSING) {
+            return false;
+        }
+        boolean wasTreeEdge = treeNode[slot] >= 0;
+        if (wasTreeEdge) {
+            cutEdge(slot);
+        }
+        releaseSlot(slot);
+        if (wasTreeEdge) {
+            int replacement = findReplacement(u, v);
+            if (replacement >= 0) {
+                linkEdge(replacement);
+            }
+        }
+        return true;
+    }
+
+    // Current tree edges, in no particular order
+    public EdgeList getTreeEdges() {
+        EdgeList edges = new EdgeList(Math.max(treeEdgeCount, 1));
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (treeNode[slot] >= 0) {
+                edges.add(src[slot], dst[slot], weight[slot]);
+            }
+        }
+        return edges;
+    }
+
+    // Lightest non-tree edge between the trees of u and v, or -1 if they stay apart.
+    // Explores both trees one vertex at a time, scanning each visited vertex's adjacency,
+    // and searches only the smaller one.
+    private int findReplacement(int u, int v) {
+        int stampU = ++stamp;
+        int stampV = ++stamp;
+        mark[u] = stampU;
+        mark[v] = stampV;
+        queueU[0] = u;
+        queueV[0] = v;
+        int headU = 0, tailU = 1;
+        int headV = 0, tailV = 1;
+        while (headU < tailU && headV < tailV) {
+            tailU = expand(queueU[headU++], queueU, tailU, stampU);
+            tailV = expand(queueV[headV++], queueV, tailV, stampV);
+        }
+        boolean uSmaller = headU == tailU;
+        int[] side = uSmaller ? queueU : queueV;
+        int sideSize = uSmaller ? tailU : tailV;
+        int sideStamp = uSmaller ? stampU : stampV;
+
+        int best = -1;
+        for (int k = 0; k < sideSize; k++) {
+            int x = side[k];
+            for (int i = 0; i < degree[x]; i++) {
+                int slot = incident[x][i];
+                if (treeNode[slot] >= 0) {
+                    continue;
+                }
+                int other = src[slot] == x ? dst[slot] : src[slot];
+                if (mark[other] != sideStamp && (best < 0 || weight[slot] < weight[best]
+                        || (weight[slot] == weight[best] && slot < best))) {
+                    best = slot;
+                }
+            }
+        }
+        return best;
+    }
+
+    // Appends the unvisited tree neighbours of x to the queue
+    private int expand(int x, int[] queue, int tail, int sideStamp) {
+        for (int i = 0; i < degree[x]; i++) {
+            int slot = incident[x][i];
+            if (treeNode[slot] < 0) {
+                continue;
+            }
+            int other = src[slot] == x ? dst[slot] : src[slot];
+            if (mark[other] != sideStamp) {
+                mark[other] = sideStamp;
+                queue[tail++] = other;
+            }
+        }
+        return tail;
+    }
+
+    private void linkEdge(int slot) {
+        int node = freeTreeNodes[--freeTreeNodeCount];
+        tree.setValue(node, weight[slot]);
+        tree.link(src[slot], node);
+        tree.link(node, dst[slot]);
+        treeNode[slot] = node;
+        slotOfNode[node - vertices] = slot;
+        treeEdgeCount++;
+        totalWeight += weight[slot];
+    }
+
+    private void cutEdge(int slot) {
+        int node = treeNode[slot];
+        tree.cut(src[slot], node);
+        tree.cut(node, dst[slot]);
+        freeTreeNodes[freeTreeNodeCount++] = node;
+        treeNode[slot] = -1;
+        treeEdgeCount--;
+        totalWeight -= weight[slot];
+    }
+
+    private int allocateSlot(int u, int v, int w) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == src.length) {
+                int capacity = src.length * 2;
+                src = Arrays.copyOf(src, capacity);
+                dst = Arrays.copyOf(dst, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                treeNode = Arrays.copyOf(treeNode, capacity);
+                srcPos = Arrays.copyOf(srcPos, capacity);
+                dstPos = Arrays.copyOf(dstPos, capacity);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+            slot = slotCount++;
+        }
+        src[slot] = u;
+        dst[slot] = v;
+        weight[slot] = w;
+        treeNode[slot] = -1;
+        srcPos[slot] = addIncident(u, slot);
+        dstPos[slot] = addIncident(v, slot);
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        removeIncident(src[slot], srcPos[slot]);
+        removeIncident(dst[slot], dstPos[slot]);
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int addIncident(int x, int slot) {
+        if (incident[x] == null) {
+            incident[x] = new int[4];
+        } else if (degree[x] == incident[x].length) {
+            incident[x] = Arrays.copyOf(incident[x], degree[x] * 2);
+        }
+        incident[x][degree[x]] = slot;
+        return degree[x]++;
+    }
+
+    // Swap-remove, fixing up the stored position of the edge moved into the hole
+    private void removeIncident(int x, int pos) {
+        int last = incident[x][--degree[x]];
+        incident[x][pos] = last;
+        if (src[last] == x) {
+            srcPos[last] = pos;
+        } else {
+            dstPos[last] = pos;
+        }
+    }
+
+    static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+}
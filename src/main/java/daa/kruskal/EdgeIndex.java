@@ -0,0 +1,151 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Hash index over the undirected pairs of a WeightedGraph's adjacency lists. Each (min, max)
+// pair maps to a slot holding the lightest weight, the number of parallel edges and, for a
+// pair with a single edge, where that edge sits in both adjacency lists. Lookups are expected
+// O(1), and so is removing a single edge: it is swapped with the last entry of each list
+// instead of shifting the list, which reorders the neighbours of both endpoints. Parallel
+// edges and self-loops fall back to an O(degree) removal.
+final class EdgeIndex {
+    private final LongIntMap slotOf;
+    private int[] weight = new int[16];       // Lightest weight of the pair
+    private int[] count = new int[16];        // Entries in adjacent[min] that point at max
+    private int[] positionAtMin = new int[16]; // Valid only while count == 1
+    private int[] positionAtMax = new int[16];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    EdgeIndex(List<? extends List<Edge>> adjacent) {
+        long halfEdges = 0;
+        for (List<Edge> edges : adjacent) {
+            halfEdges += edges.size();
+        }
+        slotOf = new LongIntMap((int) Math.min(Integer.MAX_VALUE / 4, halfEdges / 2));
+        // Count each pair from its lower endpoint (a self-loop's two entries both count)
+        for (int u = 0; u < adjacent.size(); u++) {
+            List<Edge> edges = adjacent.get(u);
+            for (int i = 0; i < edges.size(); i++) {
+                Edge edge = edges.get(i);
+                int v = edge.getDestination();
+                if (v >= u) {
+                    int slot = slotFor(u, v);
+                    count[slot]++;
+                    weight[slot] = Math.min(weight[slot], edge.getWeight());
+                    positionAtMin[slot] = i;
+                }
+            }
+        }
+        for (int u = 0; u < adjacent.size(); u++) {
+            List<Edge> edges = adjacent.get(u);
+            for (int i = 0; i < edges.size(); i++) {
+                int v = edges.get(i).getDestination();
+                if (v < u) {
+                    positionAtMax[slotOf.get(DynamicMST.pairKey(u, v))] = i;
+                }
+            }
+        }
+    }
+
+    boolean contains(int u, int v) {
+        return slotOf.containsKey(DynamicMST.pairKey(u, v));
+    }
+
+    // Lightest weight between u and v
+    int weight(int u, int v) {
+        int slot = slotOf.get(DynamicMST.pairKey(u, v));
+        if (slot == LongIntMap.MISSING) {
+            throw new IllegalArgumentException("No edge between " + u + " and " + v + ".");
+        }
+        return weight[slot];
+    }
+
+    // Called after an edge was appended to both adjacency lists
+    void added(int u, int v, int w, int positionInU, int positionInV) {
+        int slot = slotFor(u, v);
+        count[slot] += u == v ? 2 : 1;
+        weight[slot] = Math.min(weight[slot], w);
+        positionAtMin[slot] = u < v ? positionInU : positionInV;
+        positionAtMax[slot] = u < v ? positionInV : positionInU;
+    }
+
+    // Removes every edge between u and v from both lists; false if there was none
+    boolean remove(int u, int v, List<? extends List<Edge>> adjacent) {
+        int slot = slotOf.remove(DynamicMST.pairKey(u, v));
+        if (slot == LongIntMap.MISSING) {
+            return false;
+        }
+        if (count[slot] == 1) {
+            int min = Math.min(u, v);
+            int max = Math.max(u, v);
+            swapRemove(adjacent, min, positionAtMin[slot]);
+            swapRemove(adjacent, max, positionAtMax[slot]);
+        } else {
+            adjacent.get(u).removeIf(edge -> edge.getDestination() == v);
+            adjacent.get(v).removeIf(edge -> edge.getDestination() == u);
+            reindex(adjacent, u);
+            reindex(adjacent, v);
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    private void swapRemove(List<? extends List<Edge>> adjacent, int owner, int position) {
+        List<Edge> edges = adjacent.get(owner);
+        int last = edges.size() - 1;
+        if (position != last) {
+            Edge moved = edges.get(last);
+            edges.set(position, moved);
+            updatePosition(owner, moved.getDestination(), position);
+        }
+        edges.remove(last);
+    }
+
+    // Positions after removeIf shifted the list
+    private void reindex(List<? extends List<Edge>> adjacent, int owner) {
+        List<Edge> edges = adjacent.get(owner);
+        for (int i = 0; i < edges.size(); i++) {
+            updatePosition(owner, edges.get(i).getDestination(), i);
+        }
+    }
+
+    private void updatePosition(int owner, int neighbour, int position) {
+        int slot = slotOf.get(DynamicMST.pairKey(owner, neighbour));
+        if (count[slot] != 1) {
+            return; // Positions are not tracked for parallel edges
+        }
+        if (owner < neighbour) {
+            positionAtMin[slot] = position;
+        } else {
+            positionAtMax[slot] = position;
+        }
+    }
+
+    private int slotFor(int u, int v) {
+        long key = DynamicMST.pairKey(u, v);
+        int slot = slotOf.get(key);
+        if (slot != LongIntMap.MISSING) {
+            return slot;
+        }
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == weight.length) {
+                int capacity = slotCount * 2;
+                weight = Arrays.copyOf(weight, capacity);
+                count = Arrays.copyOf(count, capacity);
+                positionAtMin = Arrays.copyOf(positionAtMin, capacity);
+                positionAtMax = Arrays.copyOf(positionAtMax, capacity);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+            slot = slotCount++;
+        }
+        weight[slot] = Integer.MAX_VALUE;
+        count[slot] = 0;
+        slotOf.put(key, slot);
+        return slot;
+    }
+}
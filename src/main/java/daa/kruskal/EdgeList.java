@@ -0,0 +1,156 @@
+package daa.kruskal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Compact edge store: one slot per undirected edge in parallel primitive arrays,
+// so large graphs cost 12 bytes per edge instead of an EdgeInfo object each.
+public class EdgeList {
+    private int[] src;
+    private int[] dst;
+    private int[] weight;
+    private int size;
+
+    public EdgeList() {
+        this(16);
+    }
+
+    public EdgeList(int capacity) {
+        src = new int[Math.max(capacity, 1)];
+        dst = new int[src.length];
+        weight = new int[src.length];
+    }
+
+    // Wraps existing arrays without copying; all three must have the same length
+    public EdgeList(int[] src, int[] dst, int[] weight) {
+        if (src.length != dst.length || src.length != weight.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length.");
+        }
+        this.src = src;
+        this.dst = dst;
+        this.weight = weight;
+        this.size = src.length;
+    }
+
+    public static EdgeList of(List<WeightedGraph.EdgeInfo> edges) {
+        EdgeList list = new EdgeList(edges.size());
+        for (WeightedGraph.EdgeInfo edge : edges) {
+            list.add(edge.source, edge.destination, edge.weight);
+        }
+        return list;
+    }
+
+    public void add(int source, int destination, int w) {
+        if (size == src.length) {
+            grow(size + 1);
+        }
+        src[size] = source;
+        dst[size] = destination;
+        weight[size] = w;
+        size++;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > src.length) {
+            grow(capacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, src.length + (src.length >> 1));
+        src = Arrays.copyOf(src, capacity);
+        dst = Arrays.copyOf(dst, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int getSource(int i) {
+        return src[i];
+    }
+
+    public int getDestination(int i) {
+        return dst[i];
+    }
+
+    public int getWeight(int i) {
+        return weight[i];
+    }
+
+    public void setWeight(int i, int w) {
+        weight[i] = w;
+    }
+
+    // Backing arrays, valid up to size(); exposed so hot loops can index them directly
+    public int[] sources() {
+        return src;
+    }
+
+    public int[] destinations() {
+        return dst;
+    }
+
+    public int[] weights() {
+        return weight;
+    }
+
+    public long totalWeight() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weight[i];
+        }
+        return total;
+    }
+
+    // Stable sort by weight: edges with equal weight keep their insertion order
+    public void sortByWeight() {
+        int[] order = EdgeSorts.stableOrder(weight, size);
+        src = EdgeSorts.gather(src, order);
+        dst = EdgeSorts.gather(dst, order);
+        weight = EdgeSorts.gather(weight, order);
+    }
+
+    // Same ordering as sortByWeight(), with the radix passes spread over parallelism threads
+    public void sortByWeight(int parallelism) {
+        if (parallelism <= 1) {
+            sortByWeight();
+            return;
+        }
+        int[] order = EdgeSorts.parallelStableOrder(weight, size, parallelism);
+        src = EdgeSorts.parallelGather(src, order, parallelism);
+        dst = EdgeSorts.parallelGather(dst, order, parallelism);
+        weight = EdgeSorts.parallelGather(weight, order, parallelism);
+    }
+
+    public WeightedGraph.EdgeInfo get(int i) {
+        return new WeightedGraph.EdgeInfo(src[i], dst[i], weight[i]);
+    }
+
+    public List<WeightedGraph.EdgeInfo> toEdgeInfoList() {
+        List<WeightedGraph.EdgeInfo> edges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            edges.add(get(i));
+        }
+        return edges;
+    }
+
+    public EdgeList copy() {
+        EdgeList copy = new EdgeList(size);
+        System.arraycopy(src, 0, copy.src, 0, size);
+        System.arraycopy(dst, 0, copy.dst, 0, size);
+        System.arraycopy(weight, 0, copy.weight, 0, size);
+        copy.size = size;
+        return copy;
+    }
+}
@@ -0,0 +1,11 @@
+package daa.kruskal;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Sequential source of edges that can be consumed in bounded chunks
+public interface EdgeReader extends Closeable {
+
+    // Appends up to maxEdges edges to the list, returns how many were read (0 at the end)
+    int read(EdgeList chunk, int maxEdges) throws IOException;
+}
@@ -0,0 +1,262 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Primitive sorting helpers for the edge lists. All sorts return a permutation
+// (order[k] = index of the k-th smallest weight) and are stable, so ties are
+// resolved by the original edge index.
+final class EdgeSorts {
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private EdgeSorts() {
+    }
+
+    private static final int SMALL_SORT_THRESHOLD = 256;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    // Picks the sort from the weight range: counting sort when the range is small
+    // relative to the edge count, LSD radix otherwise, comparison sort for tiny inputs
+    static int[] stableOrder(int[] weights, int n) {
+        if (n < SMALL_SORT_THRESHOLD) {
+            return packedOrder(weights, n);
+        }
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            min = Math.min(min, weights[i]);
+            max = Math.max(max, weights[i]);
+        }
+        long range = (long) max - min;
+        if (range < Math.max(n, RADIX)) {
+            return countingOrder(weights, n, min, (int) range + 1);
+        }
+        return radixOrder(weights, n, min, range);
+    }
+
+    static int[] packedOrder(int[] weights, int n) {
+        // Pack (weight, index) into one long: sorting the keys orders by weight, then index
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) weights[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    static int[] countingOrder(int[] weights, int n, int min, int buckets) {
+        int[] start = new int[buckets + 1];
+        for (int i = 0; i < n; i++) {
+            start[weights[i] - min + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[start[weights[i] - min]++] = i;
+        }
+        return order;
+    }
+
+    // LSD radix sort on (weight - min), one byte per pass, only as many passes as the range needs
+    static int[] radixOrder(int[] weights, int n, int min, long range) {
+        int passes = (64 - Long.numberOfLeadingZeros(range) + RADIX_BITS - 1) / RADIX_BITS;
+        int[] keys = new int[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = weights[i] - min; // Unsigned offset, may wrap into the sign bit
+            order[i] = i;
+        }
+        int[] keyBuffer = new int[n];
+        int[] orderBuffer = new int[n];
+        int[] count = new int[RADIX];
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[(keys[i] >>> shift) & (RADIX - 1)]++;
+            }
+            int sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int pos = count[(keys[i] >>> shift) & (RADIX - 1)]++;
+                keyBuffer[pos] = keys[i];
+                orderBuffer[pos] = order[i];
+            }
+            int[] tmp = keys;
+            keys = keyBuffer;
+            keyBuffer = tmp;
+            tmp = order;
+            order = orderBuffer;
+            orderBuffer = tmp;
+        }
+        return order;
+    }
+
+    // Stable parallel LSD radix sort: each pass builds per-chunk histograms in parallel,
+    // turns them into per-chunk write offsets, then scatters every chunk in parallel
+    static int[] parallelStableOrder(int[] weights, int n, int parallelism) {
+        if (parallelism <= 1 || n < SMALL_SORT_THRESHOLD * parallelism) {
+            return stableOrder(weights, n);
+        }
+        int chunks = parallelism;
+        int[] chunkMin = new int[chunks];
+        int[] chunkMax = new int[chunks];
+        ParallelTasks.run(chunks, parallelism, c -> {
+            int lo = Integer.MAX_VALUE;
+            int hi = Integer.MIN_VALUE;
+            for (int i = ParallelTasks.chunkStart(n, chunks, c); i < ParallelTasks.chunkStart(n, chunks, c + 1); i++) {
+                lo = Math.min(lo, weights[i]);
+                hi = Math.max(hi, weights[i]);
+            }
+            chunkMin[c] = lo;
+            chunkMax[c] = hi;
+        });
+        int min = Arrays.stream(chunkMin).min().getAsInt();
+        long range = (long) Arrays.stream(chunkMax).max().getAsInt() - min;
+        int passes = Math.max(1, (64 - Long.numberOfLeadingZeros(range) + RADIX_BITS - 1) / RADIX_BITS);
+
+        int[][] keys = {new int[n], new int[n]};
+        int[][] order = {new int[n], new int[n]};
+        ParallelTasks.run(chunks, parallelism, c -> {
+            for (int i = ParallelTasks.chunkStart(n, chunks, c); i < ParallelTasks.chunkStart(n, chunks, c + 1); i++) {
+                keys[0][i] = weights[i] - min;
+                order[0][i] = i;
+            }
+        });
+        int[][] offsets = new int[chunks][RADIX];
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] inKeys = keys[pass & 1];
+            int[] inOrder = order[pass & 1];
+            int[] outKeys = keys[(pass + 1) & 1];
+            int[] outOrder = order[(pass + 1) & 1];
+            ParallelTasks.run(chunks, parallelism, c -> {
+                int[] count = offsets[c];
+                Arrays.fill(count, 0);
+                for (int i = ParallelTasks.chunkStart(n, chunks, c); i < ParallelTasks.chunkStart(n, chunks, c + 1); i++) {
+                    count[(inKeys[i] >>> shift) & (RADIX - 1)]++;
+                }
+            });
+            // Bucket-major, chunk-minor prefix sum keeps equal digits in input order
+            int sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                for (int c = 0; c < chunks; c++) {
+                    int count = offsets[c][b];
+                    offsets[c][b] = sum;
+                    sum += count;
+                }
+            }
+            ParallelTasks.run(chunks, parallelism, c -> {
+                int[] next = offsets[c];
+                for (int i = ParallelTasks.chunkStart(n, chunks, c); i < ParallelTasks.chunkStart(n, chunks, c + 1); i++) {
+                    int pos = next[(inKeys[i] >>> shift) & (RADIX - 1)]++;
+                    outKeys[pos] = inKeys[i];
+                    outOrder[pos] = inOrder[i];
+                }
+            });
+        }
+        return order[passes & 1];
+    }
+
+    static int[] parallelGather(int[] values, int[] order, int parallelism) {
+        int n = order.length;
+        int[] result = new int[n];
+        ParallelTasks.run(parallelism, parallelism, c -> {
+            for (int i = ParallelTasks.chunkStart(n, parallelism, c); i < ParallelTasks.chunkStart(n, parallelism, c + 1); i++) {
+                result[i] = values[order[i]];
+            }
+        });
+        return result;
+    }
+
+    static int[] stableOrder(double[] weights, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = sortableBits(weights[i]);
+        }
+        return stableOrder(keys, n);
+    }
+
+    // Maps a double to a long whose signed order matches Double.compare
+    static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static int[] stableOrder(long[] weights, int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        // Insertion sort small runs, then merge bottom-up
+        for (int lo = 0; lo < n; lo += INSERTION_THRESHOLD) {
+            int hi = Math.min(lo + INSERTION_THRESHOLD, n);
+            for (int i = lo + 1; i < hi; i++) {
+                int idx = order[i];
+                long key = weights[idx];
+                int j = i - 1;
+                while (j >= lo && weights[order[j]] > key) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = idx;
+            }
+        }
+        int[] buffer = new int[n];
+        for (int width = INSERTION_THRESHOLD; width < n; width <<= 1) {
+            for (int lo = 0; lo < n - width; lo += width << 1) {
+                int mid = lo + width;
+                int hi = Math.min(lo + (width << 1), n);
+                if (weights[order[mid - 1]] <= weights[order[mid]]) {
+                    continue; // Already in order
+                }
+                System.arraycopy(order, lo, buffer, lo, hi - lo);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    order[k++] = weights[buffer[j]] < weights[buffer[i]] ? buffer[j++] : buffer[i++];
+                }
+                while (i < mid) {
+                    order[k++] = buffer[i++];
+                }
+                while (j < hi) {
+                    order[k++] = buffer[j++];
+                }
+            }
+        }
+        return order;
+    }
+
+    static int[] gather(int[] values, int[] order) {
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = values[order[i]];
+        }
+        return result;
+    }
+
+    static long[] gather(long[] values, int[] order) {
+        long[] result = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = values[order[i]];
+        }
+        return result;
+    }
+
+    static double[] gather(double[] values, int[] order) {
+        double[] result = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = values[order[i]];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,299 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Undo/redo log of graph edits. An edge addition is stored as four ints. Creating or clearing a
+// graph stores a checkpoint of the graph that replaces the current one (layout and labels, it
+// has no edges yet) plus the layout of the graph being replaced. Any earlier graph is rebuilt
+// from the checkpoint it started from by replaying its edge additions, so undoing an edge is
+// O(1) and undoing a create or clear costs the size of the graph it brings back, with no
+// edge lists copied into the log. Once the log grows past its memory budget the oldest
+// entries are dropped; anything that depended on them can no longer be undone.
+public class EditHistory {
+    public static final int NONE = 0;
+    public static final int ADD_EDGE = 1;
+    public static final int CREATE_GRAPH = 2;
+    public static final int CLEAR_GRAPH = 3;
+
+    public static final long DEFAULT_BUDGET_BYTES = 64L << 20;
+    private static final int STRIDE = 4; // type, source, destination, weight
+    private static final long ENTRY_BYTES = STRIDE * Integer.BYTES + 8; // Including the checkpoint slot
+
+    // A graph layout to restore; edges are only filled in for replayed graphs
+    public static class GraphState {
+        final int vertices;
+        double[] x;
+        double[] y;
+        final int[] labels;
+        final EdgeList edges;
+
+        public GraphState(int vertices, double[] x, double[] y, int[] labels) {
+            this(vertices, x, y, labels, new EdgeList());
+        }
+
+        GraphState(int vertices, double[] x, double[] y, int[] labels, EdgeList edges) {
+            this.vertices = vertices;
+            this.x = x;
+            this.y = y;
+            this.labels = labels;
+            this.edges = edges;
+        }
+
+        public int getVertices() {
+            return vertices;
+        }
+
+        public double[] getX() {
+            return x;
+        }
+
+        public double[] getY() {
+            return y;
+        }
+
+        public int[] getLabels() {
+            return labels;
+        }
+
+        public EdgeList getEdges() {
+            return edges;
+        }
+
+        long bytes() {
+            return 16L * vertices + 4L * vertices;
+        }
+    }
+
+    private final long budgetBytes;
+    private int[] ops = new int[STRIDE * 16];
+    private GraphState[] checkpoints = new GraphState[16]; // Graph created by a CREATE_GRAPH entry
+    private double[][] replacedX = new double[16][]; // Layout of the graph a CREATE or CLEAR replaced
+    private double[][] replacedY = new double[16][];
+    private int size; // Entries in the log
+    private int cursor; // Entries [0, cursor) are applied, [cursor, size) can be redone
+    private boolean trimmed; // Whether entries were dropped from the front
+    private long usedBytes;
+
+    public EditHistory() {
+        this(DEFAULT_BUDGET_BYTES);
+    }
+
+    public EditHistory(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive.");
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    public void recordAddEdge(int source, int destination, int weight) {
+        int at = append(ADD_EDGE);
+        ops[at * STRIDE + 1] = source;
+        ops[at * STRIDE + 2] = destination;
+        ops[at * STRIDE + 3] = weight;
+        usedBytes += ENTRY_BYTES;
+        trim();
+    }
+
+    // created is the new graph, currentX/currentY the layout of the graph it replaces (null if none)
+    public void recordCreate(GraphState created, double[] currentX, double[] currentY) {
+        recordReplace(CREATE_GRAPH, created, currentX, currentY);
+    }
+
+    public void recordClear(double[] currentX, double[] currentY) {
+        recordReplace(CLEAR_GRAPH, null, currentX, currentY);
+    }
+
+    private void recordReplace(int type, GraphState created, double[] currentX, double[] currentY) {
+        int at = append(type);
+        checkpoints[at] = created;
+        replacedX[at] = currentX;
+        replacedY[at] = currentY;
+        usedBytes += entryBytes(at);
+        trim();
+    }
+
+    // Type of the entry undo() would revert, or NONE
+    public int peekUndo() {
+        if (cursor == 0) {
+            return NONE;
+        }
+        int type = ops[(cursor - 1) * STRIDE];
+        if (type != ADD_EDGE && !canRebuildBefore(cursor - 1)) {
+            return NONE; // The graph before it was trimmed away
+        }
+        return type;
+    }
+
+    public int peekRedo() {
+        return cursor < size ? ops[cursor * STRIDE] : NONE;
+    }
+
+    public boolean canUndo() {
+        return peekUndo() != NONE;
+    }
+
+    public boolean canRedo() {
+        return peekRedo() != NONE;
+    }
+
+    // Reverts an ADD_EDGE entry and returns {source, destination, weight}
+    public int[] undoEdge() {
+        expect(peekUndo(), ADD_EDGE);
+        cursor--;
+        return edgeAt(cursor);
+    }
+
+    public int[] redoEdge() {
+        expect(peekRedo(), ADD_EDGE);
+        return edgeAt(cursor++);
+    }
+
+    // Reverts a CREATE_GRAPH or CLEAR_GRAPH entry and returns the graph it replaced, with its
+    // edges replayed, or null if there was none. currentX/currentY is the layout being left,
+    // which a later redo brings back.
+    public GraphState undoReplace(double[] currentX, double[] currentY) {
+        int type = peekUndo();
+        if (type != CREATE_GRAPH && type != CLEAR_GRAPH) {
+            throw new IllegalStateException("Next undo is not a graph replacement.");
+        }
+        int at = --cursor;
+        if (checkpoints[at] != null && currentX != null) {
+            usedBytes -= entryBytes(at);
+            checkpoints[at].x = currentX;
+            checkpoints[at].y = currentY;
+            usedBytes += entryBytes(at);
+        }
+        int base = previousReplace(at);
+        GraphState start = base < 0 ? null : checkpoints[base];
+        if (start == null) {
+            return null; // Nothing before, or a cleared graph
+        }
+        EdgeList edges = new EdgeList();
+        for (int i = base + 1; i < at; i++) {
+            edges.add(ops[i * STRIDE + 1], ops[i * STRIDE + 2], ops[i * STRIDE + 3]);
+        }
+        double[] x = replacedX[at] != null ? replacedX[at] : start.x;
+        double[] y = replacedY[at] != null ? replacedY[at] : start.y;
+        return new GraphState(start.vertices, x, y, start.labels, edges);
+    }
+
+    // Re-applies a CREATE_GRAPH or CLEAR_GRAPH entry and returns the graph it creates, or null
+    // for a clear. currentX/currentY is the layout being replaced, kept for the next undo.
+    public GraphState redoReplace(double[] currentX, double[] currentY) {
+        int type = peekRedo();
+        if (type != CREATE_GRAPH && type != CLEAR_GRAPH) {
+            throw new IllegalStateException("Next redo is not a graph replacement.");
+        }
+        int at = cursor++;
+        if (currentX != null) {
+            usedBytes -= entryBytes(at);
+            replacedX[at] = currentX;
+            replacedY[at] = currentY;
+            usedBytes += entryBytes(at);
+        }
+        return checkpoints[at];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            checkpoints[i] = null;
+            replacedX[i] = null;
+            replacedY[i] = null;
+        }
+        size = 0;
+        cursor = 0;
+        trimmed = false;
+        usedBytes = 0;
+    }
+
+    // Appends an entry after the cursor, dropping whatever could have been redone
+    private int append(int type) {
+        for (int i = cursor; i < size; i++) {
+            usedBytes -= entryBytes(i);
+            checkpoints[i] = null;
+            replacedX[i] = null;
+            replacedY[i] = null;
+        }
+        size = cursor;
+        if (size == checkpoints.length) {
+            int capacity = size * 2;
+            ops = Arrays.copyOf(ops, capacity * STRIDE);
+            checkpoints = Arrays.copyOf(checkpoints, capacity);
+            replacedX = Arrays.copyOf(replacedX, capacity);
+            replacedY = Arrays.copyOf(replacedY, capacity);
+        }
+        ops[size * STRIDE] = type;
+        cursor = ++size;
+        return size - 1;
+    }
+
+    // Drops the oldest applied entries until the log fits its budget
+    private void trim() {
+        if (usedBytes <= budgetBytes) {
+            return;
+        }
+        int drop = 0;
+        while (usedBytes > budgetBytes && drop < cursor - 1) {
+            usedBytes -= entryBytes(drop);
+            drop++;
+        }
+        if (drop == 0) {
+            return;
+        }
+        System.arraycopy(ops, drop * STRIDE, ops, 0, (size - drop) * STRIDE);
+        System.arraycopy(checkpoints, drop, checkpoints, 0, size - drop);
+        System.arraycopy(replacedX, drop, replacedX, 0, size - drop);
+        System.arraycopy(replacedY, drop, replacedY, 0, size - drop);
+        for (int i = size - drop; i < size; i++) {
+            checkpoints[i] = null;
+            replacedX[i] = null;
+            replacedY[i] = null;
+        }
+        size -= drop;
+        cursor -= drop;
+        trimmed = true;
+    }
+
+    // Whether the graph in place before entry 'at' can still be rebuilt
+    private boolean canRebuildBefore(int at) {
+        return previousReplace(at) >= 0 || !trimmed;
+    }
+
+    private int previousReplace(int at) {
+        for (int i = at - 1; i >= 0; i--) {
+            if (ops[i * STRIDE] != ADD_EDGE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long entryBytes(int at) {
+        long bytes = ENTRY_BYTES;
+        if (checkpoints[at] != null) {
+            bytes += checkpoints[at].bytes();
+        }
+        if (replacedX[at] != null) {
+            bytes += 16L * replacedX[at].length;
+        }
+        return bytes;
+    }
+
+    private int[] edgeAt(int at) {
+        return new int[]{ops[at * STRIDE + 1], ops[at * STRIDE + 2], ops[at * STRIDE + 3]};
+    }
+
+    private static void expect(int actual, int expected) {
+        if (actual != expected) {
+            throw new IllegalStateException("Expected a different history entry.");
+        }
+    }
+}
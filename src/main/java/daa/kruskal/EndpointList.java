@@ -0,0 +1,73 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Source and destination arrays shared by LongEdgeList and DoubleEdgeList. Subclasses own
+// the weight array and resize or reorder it whenever the endpoints are.
+abstract class EndpointList {
+    int[] src;
+    int[] dst;
+    int size;
+
+    EndpointList(int capacity) {
+        src = new int[Math.max(capacity, 1)];
+        dst = new int[src.length];
+    }
+
+    EndpointList(int[] src, int[] dst, int weights) {
+        if (src.length != dst.length || src.length != weights) {
+            throw new IllegalArgumentException("Edge arrays must have the same length.");
+        }
+        this.src = src;
+        this.dst = dst;
+        this.size = src.length;
+    }
+
+    abstract void resizeWeights(int capacity);
+
+    abstract void gatherWeights(int[] order);
+
+    // Stores the endpoints of a new edge and returns its index for the weight
+    final int append(int source, int destination) {
+        if (size == src.length) {
+            int capacity = src.length + (src.length >> 1) + 1;
+            src = Arrays.copyOf(src, capacity);
+            dst = Arrays.copyOf(dst, capacity);
+            resizeWeights(capacity);
+        }
+        src[size] = source;
+        dst[size] = destination;
+        return size++;
+    }
+
+    // Puts edge order[i] at position i
+    final void reorder(int[] order) {
+        src = EdgeSorts.gather(src, order);
+        dst = EdgeSorts.gather(dst, order);
+        gatherWeights(order);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getSource(int i) {
+        return src[i];
+    }
+
+    public int getDestination(int i) {
+        return dst[i];
+    }
+
+    public int[] sources() {
+        return src;
+    }
+
+    public int[] destinations() {
+        return dst;
+    }
+}
@@ -0,0 +1,200 @@
+package daa.kruskal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Semi-external Kruskal for edge lists larger than RAM. The input is read in chunks of at most
+// chunkEdges edges; every chunk is sorted in memory and written to a temporary run file. The
+// runs are then k-way merged in weight order straight into a UnionFind, so besides one chunk
+// only O(V + runs) memory is needed. At most MAX_FAN_IN runs are open at once: with more, groups
+// of consecutive runs are first merged into longer runs. Run files are deleted before returning.
+public class ExternalKruskalMST {
+    private static final int RUN_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_FAN_IN = 128;
+
+    // Receives merged edges in order; returning false stops the merge
+    private interface EdgeSink {
+        boolean accept(int source, int destination, int weight) throws IOException;
+    }
+
+    private ExternalKruskalMST() {
+    }
+
+    public static MSTResult compute(Path edgeFile, Path tempDir, int chunkEdges) throws IOException {
+        try (EdgeReader reader = new TextEdgeReader(edgeFile)) {
+            return compute(reader, tempDir, chunkEdges, 1);
+        }
+    }
+
+    // Vertex ids are taken from the input, the vertex count is the largest id + 1
+    public static MSTResult compute(EdgeReader reader, Path tempDir, int chunkEdges, int parallelism) throws IOException {
+        if (chunkEdges <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        List<Path> runs = new ArrayList<>();
+        try {
+            int maxVertex = writeRuns(reader, tempDir, chunkEdges, parallelism, runs);
+            return mergeRuns(reduceRuns(runs, tempDir), maxVertex + 1);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private static int writeRuns(EdgeReader reader, Path tempDir, int chunkEdges, int parallelism,
+                                 List<Path> runs) throws IOException {
+        int maxVertex = -1;
+        long edgesRead = 0;
+        EdgeList chunk = new EdgeList(chunkEdges);
+        while (reader.read(chunk, chunkEdges) > 0) {
+            // Checked before the sort so the message names the edge's input position
+            for (int i = 0; i < chunk.size(); i++) {
+                if (chunk.getSource(i) < 0 || chunk.getDestination(i) < 0) {
+                    throw new IOException("Negative vertex id in edge " + (edgesRead + i) + ".");
+                }
+            }
+            edgesRead += chunk.size();
+            chunk.sortByWeight(parallelism);
+            int[] src = chunk.sources();
+            int[] dst = chunk.destinations();
+            int[] weight = chunk.weights();
+            Path run = Files.createTempFile(tempDir, "kruskal-run", ".bin");
+            runs.add(run);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(run), RUN_BUFFER_SIZE))) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    out.writeInt(weight[i]);
+                    out.writeInt(src[i]);
+                    out.writeInt(dst[i]);
+                    maxVertex = Math.max(maxVertex, Math.max(src[i], dst[i]));
+                }
+            }
+            chunk.clear();
+        }
+        return maxVertex;
+    }
+
+    // Merges groups of consecutive runs until at most MAX_FAN_IN are left. Every new run is also
+    // added to allRuns, so it is deleted at the end even if something fails.
+    private static List<Path> reduceRuns(List<Path> allRuns, Path tempDir) throws IOException {
+        List<Path> runs = new ArrayList<>(allRuns);
+        while (runs.size() > MAX_FAN_IN) {
+            List<Path> merged = new ArrayList<>();
+            for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                List<Path> group = runs.subList(from, Math.min(from + MAX_FAN_IN, runs.size()));
+                Path run = Files.createTempFile(tempDir, "kruskal-run", ".bin");
+                allRuns.add(run);
+                merged.add(run);
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(run), RUN_BUFFER_SIZE))) {
+                    merge(group, (u, v, w) -> {
+                        out.writeInt(w);
+                        out.writeInt(u);
+                        out.writeInt(v);
+                        return true;
+                    });
+                }
+                for (Path done : group) {
+                    Files.deleteIfExists(done);
+                }
+            }
+            runs = merged;
+        }
+        return runs;
+    }
+
+    private static MSTResult mergeRuns(List<Path> runs, int vertices) throws IOException {
+        UnionFind uf = new UnionFind(vertices);
+        EdgeList mstEdges = new EdgeList(Math.max(vertices - 1, 1));
+        long[] totalWeight = new long[1];
+        merge(runs, (u, v, w) -> {
+            if (uf.union(u, v)) {
+                mstEdges.add(u, v, w);
+                totalWeight[0] += w;
+            }
+            return uf.getComponentCount() > 1;
+        });
+        return new MSTResult(mstEdges, totalWeight[0], null, null);
+    }
+
+    // k-way merge of runs by weight; ties go to the earlier run, so the order stays stable
+    private static void merge(List<Path> runs, EdgeSink sink) throws IOException {
+        int k = runs.size();
+        DataInputStream[] in = new DataInputStream[k];
+        // Current head edge of every run
+        int[] weight = new int[k];
+        int[] src = new int[k];
+        int[] dst = new int[k];
+        // Min-heap of run indices ordered by head weight, then run index
+        int[] heap = new int[k];
+        int heapSize = 0;
+        try {
+            for (int r = 0; r < k; r++) {
+                in[r] = new DataInputStream(new BufferedInputStream(Files.newInputStream(runs.get(r)), RUN_BUFFER_SIZE));
+                if (advance(in[r], r, weight, src, dst)) {
+                    heap[heapSize++] = r;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, i, heapSize, weight);
+            }
+            while (heapSize > 0) {
+                int r = heap[0];
+                if (!sink.accept(src[r], dst[r], weight[r])) {
+                    return;
+                }
+                if (!advance(in[r], r, weight, src, dst)) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, 0, heapSize, weight);
+            }
+        } finally {
+            for (DataInputStream stream : in) {
+                if (stream != null) {
+                    stream.close();
+                }
+            }
+        }
+    }
+
+    // Loads the next edge of run r, returns false when the run is exhausted
+    private static boolean advance(DataInputStream in, int r, int[] weight, int[] src, int[] dst) throws IOException {
+        try {
+            weight[r] = in.readInt();
+        } catch (EOFException end) {
+            return false;
+        }
+        src[r] = in.readInt();
+        dst[r] = in.readInt();
+        return true;
+    }
+
+    private static void siftDown(int[] heap, int i, int size, int[] weight) {
+        int run = heap[i];
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && before(heap[child + 1], heap[child], weight)) {
+                child++;
+            }
+            if (!before(heap[child], run, weight)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    private static boolean before(int a, int b, int[] weight) {
+        return weight[a] != weight[b] ? weight[a] < weight[b] : a < b;
+    }
+}
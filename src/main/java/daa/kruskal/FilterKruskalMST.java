@@ -0,0 +1,179 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Filter-Kruskal: partition the edges around a pivot, solve the light half first, then drop
+// heavy edges whose endpoints are already connected before recursing on what is left.
+// On dense graphs most heavy edges are filtered out and never sorted. Edges are ordered by
+// (weight, index), so the tree is identical to KruskalMST.compute() on the same list.
+public class FilterKruskalMST {
+    private static final int BASE_CASE = 1024;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int vertices;
+    private final int[] src;
+    private final int[] dst;
+    private final UnionFind uf;
+    private final EdgeList mstEdges;
+    private final int parallelism;
+    private final long[] buffer; // Scratch space for the parallel partition
+    private long totalWeight;
+
+    private FilterKruskalMST(int vertices, EdgeList edges, int parallelism) {
+        this.vertices = vertices;
+        this.src = edges.sources();
+        this.dst = edges.destinations();
+        this.uf = new UnionFind(vertices);
+        this.mstEdges = new EdgeList(Math.max(vertices - 1, 1));
+        this.parallelism = parallelism;
+        this.buffer = parallelism > 1 ? new long[edges.size()] : null;
+    }
+
+    public static MSTResult compute(WeightedGraph graph) {
+        return compute(graph.getVertices(), graph.getEdgeList(), 1);
+    }
+
+    public static MSTResult compute(int vertices, EdgeList edges) {
+        return compute(vertices, edges, 1);
+    }
+
+    // The given list is not modified. With parallelism > 1 partition and filter steps on
+    // large ranges are split across that many threads; unions stay sequential.
+    public static MSTResult compute(int vertices, EdgeList edges, int parallelism) {
+        int m = edges.size();
+        int[] weight = edges.weights();
+        long[] keys = new long[m];
+        for (int i = 0; i < m; i++) {
+            keys[i] = ((long) weight[i] << 32) | i;
+        }
+        FilterKruskalMST solver = new FilterKruskalMST(vertices, edges, parallelism);
+        solver.filterKruskal(keys, 0, m);
+        return new MSTResult(solver.mstEdges, solver.totalWeight, null, null);
+    }
+
+    private void filterKruskal(long[] keys, int lo, int hi) {
+        while (hi - lo > Math.max(BASE_CASE, vertices / 2)) {
+            if (uf.getComponentCount() == 1) {
+                return;
+            }
+            // Median of three distinct keys: both halves are non-empty
+            long pivot = median(keys[lo], keys[lo + (hi - lo) / 2], keys[hi - 1]);
+            int mid = partition(keys, lo, hi, pivot);
+            filterKruskal(keys, lo, mid);
+            lo = mid;
+            hi = filter(keys, mid, hi);
+        }
+        kruskal(keys, lo, hi);
+    }
+
+    private void kruskal(long[] keys, int lo, int hi) {
+        Arrays.sort(keys, lo, hi);
+        for (int k = lo; k < hi && uf.getComponentCount() > 1; k++) {
+            int i = (int) keys[k];
+            if (uf.union(src[i], dst[i])) {
+                int w = (int) (keys[k] >> 32);
+                mstEdges.add(src[i], dst[i], w);
+                totalWeight += w;
+            }
+        }
+    }
+
+    private static long median(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    // Moves keys <= pivot to the front, returns the start of the heavy part
+    private int partition(long[] keys, int lo, int hi, long pivot) {
+        if (parallelism > 1 && hi - lo >= PARALLEL_THRESHOLD) {
+            return parallelPartition(keys, lo, hi, pivot);
+        }
+        int i = lo;
+        int j = hi - 1;
+        while (true) {
+            while (i <= j && keys[i] <= pivot) {
+                i++;
+            }
+            while (i <= j && keys[j] > pivot) {
+                j--;
+            }
+            if (i >= j) {
+                return i;
+            }
+            long tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+    }
+
+    private int parallelPartition(long[] keys, int lo, int hi, long pivot) {
+        int n = hi - lo;
+        int chunks = parallelism;
+        int[] lightCount = new int[chunks + 1];
+        ParallelTasks.run(chunks, parallelism, c -> {
+            int count = 0;
+            for (int k = lo + ParallelTasks.chunkStart(n, chunks, c); k < lo + ParallelTasks.chunkStart(n, chunks, c + 1); k++) {
+                if (keys[k] <= pivot) {
+                    count++;
+                }
+            }
+            lightCount[c + 1] = count;
+        });
+        for (int c = 0; c < chunks; c++) {
+            lightCount[c + 1] += lightCount[c];
+        }
+        int lightTotal = lightCount[chunks];
+        ParallelTasks.run(chunks, parallelism, c -> {
+            int start = ParallelTasks.chunkStart(n, chunks, c);
+            int light = lo + lightCount[c];
+            int heavy = lo + lightTotal + start - lightCount[c];
+            for (int k = lo + start; k < lo + ParallelTasks.chunkStart(n, chunks, c + 1); k++) {
+                if (keys[k] <= pivot) {
+                    buffer[light++] = keys[k];
+                } else {
+                    buffer[heavy++] = keys[k];
+                }
+            }
+        });
+        System.arraycopy(buffer, lo, keys, lo, n);
+        return lo + lightTotal;
+    }
+
+    // Drops edges that would close a cycle, compacting the survivors to the front
+    private int filter(long[] keys, int lo, int hi) {
+        if (parallelism > 1 && hi - lo >= PARALLEL_THRESHOLD) {
+            return parallelFilter(keys, lo, hi);
+        }
+        int out = lo;
+        for (int k = lo; k < hi; k++) {
+            int i = (int) keys[k];
+            if (uf.find(src[i]) != uf.find(dst[i])) {
+                keys[out++] = keys[k];
+            }
+        }
+        return out;
+    }
+
+    private int parallelFilter(long[] keys, int lo, int hi) {
+        int n = hi - lo;
+        int chunks = parallelism;
+        int[] kept = new int[chunks];
+        // Unions are not running, so concurrent read-only finds are safe
+        ParallelTasks.run(chunks, parallelism, c -> {
+            int start = lo + ParallelTasks.chunkStart(n, chunks, c);
+            int out = start;
+            for (int k = start; k < lo + ParallelTasks.chunkStart(n, chunks, c + 1); k++) {
+                int i = (int) keys[k];
+                if (uf.root(src[i]) != uf.root(dst[i])) {
+                    keys[out++] = keys[k];
+                }
+            }
+            kept[c] = out - start;
+        });
+        int out = lo;
+        for (int c = 0; c < chunks; c++) {
+            System.arraycopy(keys, lo + ParallelTasks.chunkStart(n, chunks, c), keys, out, kept[c]);
+            out += kept[c];
+        }
+        return out;
+    }
+}
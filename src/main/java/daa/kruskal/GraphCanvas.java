@@ -0,0 +1,248 @@
+package daa.kruskal;
+
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+// Draws a whole graph onto one Canvas, for graphs too large for a Line and two Texts per edge.
+// Edges are stroked in one path per colour, anything outside the viewport is skipped, and
+// labels only appear once the zoom level leaves room for them. Drag to pan, scroll to zoom.
+public final class GraphCanvas extends Canvas {
+    public static final byte UNSEEN = 0;   // Black, not yet considered
+    public static final byte ACCEPTED = 1; // Limegreen, with a check mark while stepping
+    public static final byte REJECTED = 2; // Crimson, with an X mark
+
+    private static final double VERTEX_RADIUS = 15; // World units, as in the node based view
+    private static final double MIN_VERTEX_PIXELS = 1.5;
+    private static final double VERTEX_LABEL_PIXELS = 9; // Vertex labels once a vertex is this big on screen
+    private static final double EDGE_LABEL_PIXELS = 60;  // Edge labels once an edge is this long on screen
+    private static final int MAX_EDGE_LABELS = 1500;
+    private static final double ZOOM_STEP = 1.15;
+    private static final Color[] STATE_COLORS = {Color.BLACK, Color.LIMEGREEN, Color.CRIMSON};
+
+    private int vertices;
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private int[] labels = new int[0];
+    private EdgeList edges = new EdgeList();
+    private byte[] states = new byte[0];
+    private boolean showStatus;
+    private boolean showRejected = true;
+
+    // Screen = world * scale + translate
+    private double scale = 1;
+    private double translateX;
+    private double translateY;
+    private double dragX, dragY;
+    private boolean redrawPending;
+
+    public GraphCanvas() {
+        setOnMousePressed(event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        setOnMouseDragged(event -> {
+            translateX += event.getX() - dragX;
+            translateY += event.getY() - dragY;
+            dragX = event.getX();
+            dragY = event.getY();
+            requestRedraw();
+        });
+        setOnScroll(event -> {
+            double factor = event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+            // Keep the world point under the cursor where it is
+            translateX = event.getX() - (event.getX() - translateX) * factor;
+            translateY = event.getY() - (event.getY() - translateY) * factor;
+            scale *= factor;
+            requestRedraw();
+        });
+        widthProperty().addListener((observable, oldValue, newValue) -> requestRedraw());
+        heightProperty().addListener((observable, oldValue, newValue) -> requestRedraw());
+    }
+
+    // Replaces the vertices; labels are the numbers shown inside the vertices
+    public void setVertices(double[] x, double[] y, int[] labels) {
+        this.vertices = x.length;
+        this.x = x;
+        this.y = y;
+        this.labels = labels;
+        requestRedraw();
+    }
+
+    // Replaces the edges and marks them all UNSEEN
+    public void setEdges(EdgeList edges) {
+        this.edges = edges;
+        this.states = new byte[edges.size()];
+        requestRedraw();
+    }
+
+    public EdgeList getEdges() {
+        return edges;
+    }
+
+    public void setState(int edge, byte state) {
+        states[edge] = state;
+        requestRedraw();
+    }
+
+    public byte getState(int edge) {
+        return states[edge];
+    }
+
+    // Whether accepted and rejected edges carry a check or X mark
+    public void setShowStatus(boolean showStatus) {
+        this.showStatus = showStatus;
+        requestRedraw();
+    }
+
+    // When off, rejected edges are drawn like unseen ones, as in the final MST view
+    public void setShowRejected(boolean showRejected) {
+        this.showRejected = showRejected;
+        requestRedraw();
+    }
+
+    // Zooms so that every vertex is visible
+    public void fitToView() {
+        if (vertices == 0 || getWidth() <= 0 || getHeight() <= 0) {
+            scale = 1;
+            translateX = 0;
+            translateY = 0;
+            requestRedraw();
+            return;
+        }
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < vertices; i++) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        double spanX = maxX - minX + 4 * VERTEX_RADIUS;
+        double spanY = maxY - minY + 4 * VERTEX_RADIUS;
+        scale = Math.min(getWidth() / spanX, getHeight() / spanY);
+        translateX = getWidth() / 2 - (minX + maxX) / 2 * scale;
+        translateY = getHeight() / 2 - (minY + maxY) / 2 * scale;
+        requestRedraw();
+    }
+
+    // Coalesces any number of changes within one pulse into a single redraw
+    public void requestRedraw() {
+        if (redrawPending) {
+            return;
+        }
+        redrawPending = true;
+        Platform.runLater(() -> {
+            redrawPending = false;
+            redraw();
+        });
+    }
+
+    public void redraw() {
+        GraphicsContext gc = getGraphicsContext2D();
+        double width = getWidth();
+        double height = getHeight();
+        gc.clearRect(0, 0, width, height);
+        double radius = VERTEX_RADIUS * scale;
+        double margin = radius + 1;
+
+        // One path per colour, so the whole edge set costs three strokes
+        gc.setLineWidth(scale >= 0.5 ? 2.0 : 1.0);
+        int visibleEdges = 0;
+        for (byte state = UNSEEN; state <= REJECTED; state++) {
+            gc.beginPath();
+            for (int i = 0; i < edges.size(); i++) {
+                if (displayState(i) != state) {
+                    continue;
+                }
+                int u = edges.getSource(i);
+                int v = edges.getDestination(i);
+                double x1 = screenX(u), y1 = screenY(u);
+                double x2 = screenX(v), y2 = screenY(v);
+                if (Math.max(x1, x2) < -margin || Math.min(x1, x2) > width + margin
+                        || Math.max(y1, y2) < -margin || Math.min(y1, y2) > height + margin) {
+                    continue;
+                }
+                visibleEdges++;
+                gc.moveTo(x1, y1);
+                gc.lineTo(x2, y2);
+            }
+            gc.setStroke(STATE_COLORS[state]);
+            gc.stroke();
+        }
+
+        // Vertices drawn over the edge ends, again as one path
+        double r = Math.max(radius, MIN_VERTEX_PIXELS);
+        gc.beginPath();
+        for (int i = 0; i < vertices; i++) {
+            double sx = screenX(i), sy = screenY(i);
+            if (sx < -margin || sx > width + margin || sy < -margin || sy > height + margin) {
+                continue;
+            }
+            gc.moveTo(sx + r, sy);
+            gc.arc(sx, sy, r, r, 0, 360);
+        }
+        gc.setFill(Color.LIGHTBLUE);
+        gc.fill();
+        if (radius >= VERTEX_LABEL_PIXELS / 2) {
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(1.0);
+            gc.stroke();
+        }
+
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setTextAlign(TextAlignment.CENTER);
+        if (radius >= VERTEX_LABEL_PIXELS) {
+            gc.setFont(Font.font(Math.min(12, radius * 0.9)));
+            gc.setFill(Color.BLACK);
+            for (int i = 0; i < vertices; i++) {
+                double sx = screenX(i), sy = screenY(i);
+                if (sx >= -margin && sx <= width + margin && sy >= -margin && sy <= height + margin) {
+                    gc.fillText(String.valueOf(labels[i]), sx, sy);
+                }
+            }
+        }
+        if (visibleEdges <= MAX_EDGE_LABELS) {
+            drawEdgeLabels(gc, width, height);
+        }
+    }
+
+    private void drawEdgeLabels(GraphicsContext gc, double width, double height) {
+        gc.setFont(Font.font(12));
+        for (int i = 0; i < edges.size(); i++) {
+            int u = edges.getSource(i);
+            int v = edges.getDestination(i);
+            double x1 = screenX(u), y1 = screenY(u);
+            double x2 = screenX(v), y2 = screenY(v);
+            double midX = (x1 + x2) / 2;
+            double midY = (y1 + y2) / 2;
+            if (Math.hypot(x2 - x1, y2 - y1) < EDGE_LABEL_PIXELS
+                    || midX < 0 || midX > width || midY < 0 || midY > height) {
+                continue;
+            }
+            byte state = displayState(i);
+            gc.setFill(state == UNSEEN ? Color.CRIMSON : STATE_COLORS[state]);
+            gc.fillText(String.valueOf(edges.getWeight(i)), midX - 10, midY);
+            if (showStatus && state != UNSEEN) {
+                gc.fillText(state == ACCEPTED ? "\u2714" : "\u2717", midX + 8, midY);
+            }
+        }
+    }
+
+    private byte displayState(int edge) {
+        byte state = states[edge];
+        return state == REJECTED && !showRejected ? UNSEEN : state;
+    }
+
+    private double screenX(int vertex) {
+        return x[vertex] * scale + translateX;
+    }
+
+    private double screenY(int vertex) {
+        return y[vertex] * scale + translateY;
+    }
+}
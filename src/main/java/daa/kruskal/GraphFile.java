@@ -0,0 +1,261 @@
+package daa.kruskal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+// Compact binary graph format meant to be memory-mapped instead of parsed.
+//
+// Layout, all little-endian:
+//   header (64 bytes): magic "KGRF", version, flags, weight type, vertex count, edge count,
+//                      CRC32C of everything after the header, reserved zeros
+//   edge section:      int src[E], int dst[E], weights[E] (int, long or double)
+//   CSR section:       int offsets[V + 1], int neighbors[H], int weights[H], H = offsets[V]
+//                      (only with FLAG_CSR, int weights only)
+// With FLAG_SORTED the edge section is stored in ascending weight order, so Kruskal can scan
+// the mapping directly without sorting or copying anything. Every section is mapped on its own
+// and a mapping is limited to 2 GB, so the edge count is capped by the widest section: see
+// maxEdges().
+public class GraphFile {
+    static final int MAGIC = 0x4652474B; // "KGRF" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int FLAG_SORTED = 1;
+    static final int FLAG_CSR = 2;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    public enum WeightType {
+        INT32(4),
+        INT64(8),
+        FLOAT64(8);
+
+        final int bytes;
+
+        WeightType(int bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private GraphFile() {
+    }
+
+    // Largest edge count whose sections each fit in one mapping: about 536M edges with int
+    // weights, 268M with long or double weights or with a CSR section (2 entries per edge)
+    public static long maxEdges(WeightType weightType, boolean includeCSR) {
+        int bytesPerEdge = Math.max(Math.max(Integer.BYTES, weightType.bytes), includeCSR ? 2 * Integer.BYTES : 0);
+        return Integer.MAX_VALUE / bytesPerEdge;
+    }
+
+    // Writes the edges, optionally sorted by weight (the list itself is then sorted too)
+    // and optionally followed by a CSR section for neighbour scans
+    public static void write(Path file, int vertices, EdgeList edges, boolean sortByWeight, boolean includeCSR) throws IOException {
+        checkEdgeCount(edges.size(), WeightType.INT32, includeCSR);
+        if (sortByWeight) {
+            edges.sortByWeight();
+        }
+        int flags = (sortByWeight ? FLAG_SORTED : 0) | (includeCSR ? FLAG_CSR : 0);
+        try (Writer out = new Writer(file)) {
+            out.writeInts(edges.sources(), edges.size());
+            out.writeInts(edges.destinations(), edges.size());
+            out.writeInts(edges.weights(), edges.size());
+            if (includeCSR) {
+                CSRGraph csr = CSRGraph.fromEdges(vertices, edges);
+                out.writeInts(csr.offsets(), vertices + 1);
+                out.writeInts(csr.neighbors(), csr.neighbors().length);
+                out.writeInts(csr.weights(), csr.weights().length);
+            }
+            out.finish(flags, WeightType.INT32, vertices, edges.size());
+        }
+    }
+
+    public static void write(Path file, int vertices, LongEdgeList edges, boolean sortByWeight) throws IOException {
+        checkEdgeCount(edges.size(), WeightType.INT64, false);
+        if (sortByWeight) {
+            edges.sortByWeight();
+        }
+        try (Writer out = new Writer(file)) {
+            out.writeInts(edges.sources(), edges.size());
+            out.writeInts(edges.destinations(), edges.size());
+            out.writeLongs(edges.weights(), edges.size());
+            out.finish(sortByWeight ? FLAG_SORTED : 0, WeightType.INT64, vertices, edges.size());
+        }
+    }
+
+    public static void write(Path file, int vertices, DoubleEdgeList edges, boolean sortByWeight) throws IOException {
+        checkEdgeCount(edges.size(), WeightType.FLOAT64, false);
+        if (sortByWeight) {
+            edges.sortByWeight();
+        }
+        try (Writer out = new Writer(file)) {
+            out.writeInts(edges.sources(), edges.size());
+            out.writeInts(edges.destinations(), edges.size());
+            double[] weights = edges.weights();
+            long[] bits = new long[edges.size()];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = Double.doubleToRawLongBits(weights[i]);
+            }
+            out.writeLongs(bits, bits.length);
+            out.finish(sortByWeight ? FLAG_SORTED : 0, WeightType.FLOAT64, vertices, edges.size());
+        }
+    }
+
+    private static void checkEdgeCount(int edges, WeightType weightType, boolean includeCSR) {
+        if (edges > maxEdges(weightType, includeCSR)) {
+            throw new IllegalArgumentException("Too many edges for one graph file: " + edges + " > "
+                    + maxEdges(weightType, includeCSR) + ".");
+        }
+    }
+
+    public static MappedGraph open(Path file) throws IOException {
+        return open(file, false);
+    }
+
+    // Maps the file read-only. Only the header is read eagerly; with verifyChecksum the whole
+    // payload is checked against the stored CRC32C, which touches every page once.
+    public static MappedGraph open(Path file, boolean verifyChecksum) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a graph file: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a graph file: " + file);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported graph file version " + header.getInt(4) + ".");
+            }
+            int flags = header.getInt(8);
+            int weightTypeIndex = header.getInt(12);
+            if (weightTypeIndex < 0 || weightTypeIndex >= WeightType.values().length) {
+                throw new IOException("Unknown weight type " + weightTypeIndex + ".");
+            }
+            WeightType weightType = WeightType.values()[weightTypeIndex];
+            int vertices = header.getInt(16);
+            long edgeCount = header.getLong(24);
+            long checksum = header.getLong(32);
+            boolean hasCSR = (flags & FLAG_CSR) != 0;
+            if (vertices < 0 || edgeCount < 0 || edgeCount > maxEdges(weightType, hasCSR)) {
+                throw new IOException("Corrupt graph file header.");
+            }
+            int edges = (int) edgeCount;
+
+            long offset = HEADER_BYTES;
+            ByteBuffer src = map(channel, offset, 4L * edges);
+            offset += 4L * edges;
+            ByteBuffer dst = map(channel, offset, 4L * edges);
+            offset += 4L * edges;
+            ByteBuffer weights = map(channel, offset, (long) weightType.bytes * edges);
+            offset += (long) weightType.bytes * edges;
+
+            ByteBuffer csrOffsets = null;
+            ByteBuffer csrNeighbors = null;
+            ByteBuffer csrWeights = null;
+            if (hasCSR) {
+                csrOffsets = map(channel, offset, 4L * (vertices + 1));
+                offset += 4L * (vertices + 1);
+                long halfEdges = csrOffsets.getInt(4 * vertices);
+                if (halfEdges != 2L * edges) {
+                    throw new IOException("Corrupt graph file CSR section.");
+                }
+                csrNeighbors = map(channel, offset, 4L * halfEdges);
+                offset += 4L * halfEdges;
+                csrWeights = map(channel, offset, 4L * halfEdges);
+                offset += 4L * halfEdges;
+            }
+            if (offset != channel.size()) {
+                throw new IOException("Graph file size does not match its header.");
+            }
+
+            MappedGraph graph = new MappedGraph(vertices, edges, weightType, (flags & FLAG_SORTED) != 0,
+                    src, dst, weights, csrOffsets, csrNeighbors, csrWeights, checksum);
+            if (verifyChecksum && !graph.verify()) {
+                throw new IOException("Graph file checksum mismatch: " + file);
+            }
+            return graph;
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long offset, long length) throws IOException {
+        if (offset + length > channel.size()) {
+            throw new IOException("Graph file is truncated.");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    static long checksum(ByteBuffer... sections) {
+        CRC32C crc = new CRC32C();
+        for (ByteBuffer section : sections) {
+            if (section != null) {
+                crc.update(section.duplicate().clear());
+            }
+        }
+        return crc.getValue();
+    }
+
+    // Streams sections after a reserved header, checksumming as it goes; the header is written last
+    private static class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+
+        Writer(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            channel.position(HEADER_BYTES);
+        }
+
+        void writeInts(int[] values, int count) throws IOException {
+            for (int i = 0; i < count; ) {
+                if (buffer.remaining() < 4) {
+                    flush();
+                }
+                int n = Math.min(count - i, buffer.remaining() / 4);
+                buffer.asIntBuffer().put(values, i, n);
+                buffer.position(buffer.position() + 4 * n);
+                i += n;
+            }
+        }
+
+        void writeLongs(long[] values, int count) throws IOException {
+            for (int i = 0; i < count; ) {
+                if (buffer.remaining() < 8) {
+                    flush();
+                }
+                int n = Math.min(count - i, buffer.remaining() / 8);
+                buffer.asLongBuffer().put(values, i, n);
+                buffer.position(buffer.position() + 8 * n);
+                i += n;
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void finish(int flags, WeightType weightType, int vertices, long edgeCount) throws IOException {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(weightType.ordinal());
+            header.putInt(vertices).putInt(0).putLong(edgeCount).putLong(crc.getValue());
+            header.clear();
+            channel.write(header, 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,610 @@
+package daa.kruskal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+// Multi-threaded loader for text graphs. The header is read first, then the rest of the file
+// is cut into chunks on line boundaries and every chunk is parsed from its own memory mapping
+// into a private EdgeList, with no String or boxed value per line. The chunks are joined in
+// file order, so the result is the same at any thread count.
+//
+// Supported formats:
+//   EDGE_LIST      "u v [w]" per line, 0-based ids, '#' and '%' comment lines, weight 1 if absent
+//   DIMACS         "p sp n m" header, "a u v w" arcs, 'c' comment lines, 1-based ids
+//   MATRIX_MARKET  "%%MatrixMarket matrix coordinate <field> <symmetry>", then "rows cols nnz"
+//                  and "i j [value]" entries, 1-based ids. A real field is read as doubles
+//                  into a DoubleEdgeList, never rounded to int weights.
+// Every line becomes one edge. DIMACS arcs are directed, so a road network that lists both
+// directions yields both; getEdgeList() and the MST engines collapse such pairs anyway.
+public class GraphImporter {
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    public enum Format {
+        EDGE_LIST,
+        DIMACS,
+        MATRIX_MARKET;
+
+        // Guesses the format from the file extension
+        public static Format of(Path file) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".gr")) {
+                return DIMACS;
+            }
+            if (name.endsWith(".mtx") || name.endsWith(".mm")) {
+                return MATRIX_MARKET;
+            }
+            return EDGE_LIST;
+        }
+    }
+
+    // Holds an EdgeList, or a DoubleEdgeList for a Matrix Market file with a real field
+    public static class Result {
+        private final int vertices;
+        private final EdgeList edges;
+        private final DoubleEdgeList realEdges;
+        private final long bytes;
+        private final long nanos;
+        private final int threads;
+
+        Result(int vertices, EdgeList edges, DoubleEdgeList realEdges, long bytes, long nanos, int threads) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.realEdges = realEdges;
+            this.bytes = bytes;
+            this.nanos = nanos;
+            this.threads = threads;
+        }
+
+        public int getVertices() {
+            return vertices;
+        }
+
+        public boolean hasRealWeights() {
+            return realEdges != null;
+        }
+
+        public EdgeList getEdgeList() {
+            if (edges == null) {
+                throw new IllegalStateException("The file has real weights, use getDoubleEdgeList().");
+            }
+            return edges;
+        }
+
+        public DoubleEdgeList getDoubleEdgeList() {
+            if (realEdges == null) {
+                throw new IllegalStateException("The file has integer weights, use getEdgeList().");
+            }
+            return realEdges;
+        }
+
+        public int getEdgeCount() {
+            return edges != null ? edges.size() : realEdges.size();
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public double getMegabytesPerSecond() {
+            return bytes / 1e6 / (nanos / 1e9);
+        }
+
+        public double getEdgesPerSecond() {
+            return getEdgeCount() / (nanos / 1e9);
+        }
+
+        public WeightedGraph toWeightedGraph() {
+            return WeightedGraph.fromEdges(vertices, getEdgeList(), threads);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d vertices, %d edges, %.1f MB in %.1f ms on %d threads (%.1f MB/s, %.2fM edges/s)",
+                    vertices, getEdgeCount(), bytes / 1e6, nanos / 1e6, threads,
+                    getMegabytesPerSecond(), getEdgesPerSecond() / 1e6);
+        }
+    }
+
+    private GraphImporter() {
+    }
+
+    public static Result read(Path file) throws IOException {
+        return read(file, Format.of(file), ParallelTasks.defaultParallelism());
+    }
+
+    public static Result read(Path file, Format format, int parallelism) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Header header = readHeader(channel, size, format);
+
+            long[] bounds = chunkBounds(channel, header.dataStart, size, parallelism);
+            int chunks = bounds.length - 1;
+            EdgeList[] parts = new EdgeList[chunks];
+            DoubleEdgeList[] realParts = new DoubleEdgeList[chunks];
+            int[] maxIds = new int[chunks];
+            IOException[] errors = new IOException[chunks];
+            ParallelTasks.run(chunks, parallelism, t -> {
+                try {
+                    ChunkParser parser = new ChunkParser(channel, bounds[t], bounds[t + 1], format, header);
+                    parser.parse();
+                    parts[t] = parser.edges;
+                    realParts[t] = parser.realEdges;
+                    maxIds[t] = parser.maxId;
+                } catch (IOException e) {
+                    errors[t] = e;
+                }
+            });
+            // Report the first error in file order, whatever thread hit it
+            for (IOException error : errors) {
+                if (error != null) {
+                    throw error;
+                }
+            }
+
+            EdgeList edges = header.realWeights ? null : concat(parts);
+            DoubleEdgeList realEdges = header.realWeights ? concat(realParts) : null;
+            int count = header.realWeights ? realEdges.size() : edges.size();
+            int vertices = header.vertices;
+            if (format == Format.EDGE_LIST) {
+                for (int maxId : maxIds) {
+                    vertices = Math.max(vertices, maxId + 1);
+                }
+            } else if (header.edges >= 0 && header.edges != count) {
+                throw new IOException("Expected " + header.edges + " edges but found " + count + ".");
+            }
+            return new Result(vertices, edges, realEdges, size, System.nanoTime() - start,
+                    Math.min(parallelism, chunks));
+        }
+    }
+
+    // What the header says, and where the edge lines begin
+    private static class Header {
+        long dataStart;
+        int vertices;
+        long edges = -1;
+        boolean realWeights;
+        boolean unweighted;
+    }
+
+    private static Header readHeader(FileChannel channel, long size, Format format) throws IOException {
+        Header header = new Header();
+        if (format == Format.EDGE_LIST) {
+            return header;
+        }
+        // The header is parsed sequentially from a mapping of the start of the file
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAX_CHUNK_BYTES));
+        ChunkParser parser = new ChunkParser(buffer, 0, format, header);
+        if (format == Format.DIMACS) {
+            parser.readDimacsHeader(header);
+        } else {
+            parser.readMatrixMarketHeader(header);
+        }
+        header.dataStart = parser.position;
+        return header;
+    }
+
+    // Chunk t covers [bounds[t], bounds[t + 1]); every bound except the first is a line start
+    private static long[] chunkBounds(FileChannel channel, long dataStart, long size, int parallelism) throws IOException {
+        long length = size - dataStart;
+        long bySize = Math.max(1, length / MIN_CHUNK_BYTES);
+        int chunks = (int) Math.min(bySize, (long) Math.max(1, parallelism) * CHUNKS_PER_THREAD);
+        chunks = (int) Math.max(chunks, (length + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        long[] bounds = new long[chunks + 1];
+        bounds[0] = dataStart;
+        bounds[chunks] = size;
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        for (int t = 1; t < chunks; t++) {
+            long at = Math.max(bounds[t - 1], dataStart + length * t / chunks);
+            bounds[t] = nextLineStart(channel, at, size, probe);
+        }
+        return bounds;
+    }
+
+    // First position at or after 'at' that starts a line
+    private static long nextLineStart(FileChannel channel, long at, long size, ByteBuffer probe) throws IOException {
+        long position = at - 1;
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static EdgeList concat(EdgeList[] parts) {
+        if (parts.length == 1) {
+            return parts[0];
+        }
+        int total = 0;
+        for (EdgeList part : parts) {
+            total = Math.addExact(total, part.size());
+        }
+        int[] src = new int[total];
+        int[] dst = new int[total];
+        int[] weight = new int[total];
+        int at = 0;
+        for (EdgeList part : parts) {
+            System.arraycopy(part.sources(), 0, src, at, part.size());
+            System.arraycopy(part.destinations(), 0, dst, at, part.size());
+            System.arraycopy(part.weights(), 0, weight, at, part.size());
+            at += part.size();
+        }
+        return new EdgeList(src, dst, weight);
+    }
+
+    private static DoubleEdgeList concat(DoubleEdgeList[] parts) {
+        if (parts.length == 1) {
+            return parts[0];
+        }
+        int total = 0;
+        for (DoubleEdgeList part : parts) {
+            total = Math.addExact(total, part.size());
+        }
+        int[] src = new int[total];
+        int[] dst = new int[total];
+        double[] weight = new double[total];
+        int at = 0;
+        for (DoubleEdgeList part : parts) {
+            System.arraycopy(part.sources(), 0, src, at, part.size());
+            System.arraycopy(part.destinations(), 0, dst, at, part.size());
+            System.arraycopy(part.weights(), 0, weight, at, part.size());
+            at += part.size();
+        }
+        return new DoubleEdgeList(src, dst, weight);
+    }
+
+    // Parses the lines of one chunk straight from its mapping
+    private static class ChunkParser {
+        final MappedByteBuffer buffer;
+        final long offset; // File offset of buffer position 0, for error messages
+        final int limit;
+        final Format format;
+        final Header header;
+        int position;
+        int maxId = -1;
+        EdgeList edges; // Filled by parse(), or realEdges for a real field
+        DoubleEdgeList realEdges;
+
+        ChunkParser(FileChannel channel, long from, long to, Format format, Header header) throws IOException {
+            this(channel.map(FileChannel.MapMode.READ_ONLY, from, to - from), from, format, header);
+        }
+
+        ChunkParser(MappedByteBuffer buffer, long offset, Format format, Header header) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.limit = buffer.limit();
+            this.format = format;
+            this.header = header;
+        }
+
+        void parse() throws IOException {
+            int capacity = Math.max(16, limit / 16);
+            if (header.realWeights) {
+                realEdges = new DoubleEdgeList(capacity);
+            } else {
+                edges = new EdgeList(capacity);
+            }
+            int base = format == Format.EDGE_LIST ? 0 : 1;
+            int vertices = header.vertices;
+            while (position < limit) {
+                byte c = buffer.get(position);
+                if (c <= ' ') {
+                    position++;
+                    continue;
+                }
+                if (isComment(c)) {
+                    skipLine();
+                    continue;
+                }
+                if (format == Format.DIMACS) {
+                    if (c != 'a') {
+                        throw error("Expected an arc line");
+                    }
+                    position++;
+                }
+                int u = readInt() - base;
+                int v = readInt() - base;
+                boolean weighted = !atLineEnd();
+                if (!weighted && (format == Format.DIMACS || (format == Format.MATRIX_MARKET && !header.unweighted))) {
+                    throw error("Missing weight");
+                }
+                if (header.realWeights) {
+                    double w = readReal();
+                    skipLine();
+                    checkIds(u, v, vertices);
+                    realEdges.add(u, v, w);
+                } else {
+                    int w = weighted ? readInt() : 1;
+                    skipLine();
+                    checkIds(u, v, vertices);
+                    edges.add(u, v, w);
+                }
+            }
+        }
+
+        private void checkIds(int u, int v, int vertices) throws IOException {
+            if (u < 0 || v < 0 || (format != Format.EDGE_LIST && (u >= vertices || v >= vertices))) {
+                throw error("Vertex id out of range");
+            }
+            maxId = Math.max(maxId, Math.max(u, v));
+        }
+
+        private boolean isComment(byte c) {
+            if (format == Format.DIMACS) {
+                return c == 'c';
+            }
+            return c == '%' || c == '#';
+        }
+
+        void readDimacsHeader(Header header) throws IOException {
+            while (position < limit) {
+                byte c = buffer.get(position);
+                if (c <= ' ') {
+                    position++;
+                } else if (c == 'c') {
+                    skipLine();
+                } else if (c == 'p') {
+                    position++;
+                    skipWord(); // Problem type, "sp" for shortest-path graphs
+                    header.vertices = readInt();
+                    header.edges = readInt();
+                    skipLine();
+                    return;
+                } else {
+                    throw error("Expected the 'p' line");
+                }
+            }
+            throw error("Missing the 'p' line");
+        }
+
+        void readMatrixMarketHeader(Header header) throws IOException {
+            int lineEnd = position;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            byte[] bytes = new byte[lineEnd - position];
+            buffer.get(position, bytes);
+            String[] banner = new String(bytes, StandardCharsets.US_ASCII).trim().toLowerCase(Locale.ROOT).split("\\s+");
+            if (banner.length < 5 || !banner[0].equals("%%matrixmarket") || !banner[1].equals("matrix")) {
+                throw error("Not a Matrix Market file");
+            }
+            if (!banner[2].equals("coordinate")) {
+                throw error("Only coordinate matrices can be read as graphs");
+            }
+            switch (banner[3]) {
+                case "integer":
+                    break;
+                case "real":
+                    header.realWeights = true;
+                    break;
+                case "pattern":
+                    header.unweighted = true;
+                    break;
+                default:
+                    throw error("Unsupported Matrix Market field '" + banner[3] + "'");
+            }
+            position = lineEnd;
+            while (position < limit) {
+                byte c = buffer.get(position);
+                if (c <= ' ') {
+                    position++;
+                } else if (c == '%') {
+                    skipLine();
+                } else {
+                    int rows = readInt();
+                    int columns = readInt();
+                    header.vertices = Math.max(rows, columns);
+                    header.edges = readInt();
+                    skipLine();
+                    return;
+                }
+            }
+            throw error("Missing the size line");
+        }
+
+        private int readInt() throws IOException {
+            skipSpaces();
+            boolean negative = position < limit && buffer.get(position) == '-';
+            if (negative) {
+                position++;
+            }
+            int c = position < limit ? buffer.get(position) : -1;
+            if (c < '0' || c > '9') {
+                throw error("Expected an integer");
+            }
+            long value = 0;
+            while (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw error("Integer out of range");
+                }
+                position++;
+                c = position < limit ? buffer.get(position) : -1;
+            }
+            if (!negative && value > Integer.MAX_VALUE) {
+                throw error("Integer out of range");
+            }
+            return (int) (negative ? -value : value);
+        }
+
+        // Matrix Market real values. Up to 15 significant digits and a power of ten within
+        // 10^22 are exact doubles, so one multiply or divide gives the correctly rounded value;
+        // anything longer goes through Double.parseDouble.
+        private double readReal() throws IOException {
+            skipSpaces();
+            int c = position < limit ? buffer.get(position) : -1;
+            boolean negative = c == '-';
+            if (negative || c == '+') {
+                position++;
+                c = position < limit ? buffer.get(position) : -1;
+            }
+            int start = position; // Unsigned part, for the slow path
+            long mantissa = 0;
+            int exponent = 0;
+            int digits = 0;
+            int significant = 0;
+            boolean fraction = false;
+            while ((c >= '0' && c <= '9') || (c == '.' && !fraction)) {
+                if (c == '.') {
+                    fraction = true;
+                } else {
+                    digits++;
+                    if (mantissa != 0 || c != '0') {
+                        significant++;
+                    }
+                    if (significant <= 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        if (fraction) {
+                            exponent--;
+                        }
+                    }
+                }
+                position++;
+                c = position < limit ? buffer.get(position) : -1;
+            }
+            if (digits == 0) {
+                throw error("Expected a number");
+            }
+            if (c == 'e' || c == 'E') {
+                position++;
+                exponent += readExponent();
+            }
+            double value;
+            if (significant <= 15 && Math.abs(exponent) <= 22) {
+                value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+            } else {
+                byte[] bytes = new byte[position - start];
+                buffer.get(start, bytes);
+                value = Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+            }
+            if (Double.isInfinite(value)) {
+                throw error("Weight out of range");
+            }
+            return negative ? -value : value;
+        }
+
+        // Signed exponent digits right after the 'e', as in 1.5e+01 or 2E-3
+        private int readExponent() throws IOException {
+            int c = position < limit ? buffer.get(position) : -1;
+            boolean negative = c == '-';
+            if (negative || c == '+') {
+                position++;
+                c = position < limit ? buffer.get(position) : -1;
+            }
+            if (c < '0' || c > '9') {
+                throw error("Expected exponent digits");
+            }
+            int value = 0;
+            while (c >= '0' && c <= '9') {
+                value = Math.min(value * 10 + (c - '0'), 10_000); // Far past the double range either way
+                position++;
+                c = position < limit ? buffer.get(position) : -1;
+            }
+            return negative ? -value : value;
+        }
+
+        private boolean atLineEnd() {
+            skipSpaces();
+            if (position >= limit) {
+                return true;
+            }
+            byte c = buffer.get(position);
+            return c == '\n' || c == '\r';
+        }
+
+        private void skipSpaces() {
+            while (position < limit) {
+                byte c = buffer.get(position);
+                if (c != ' ' && c != '\t') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        private void skipWord() {
+            skipSpaces();
+            while (position < limit && buffer.get(position) > ' ') {
+                position++;
+            }
+        }
+
+        private void skipLine() {
+            while (position < limit) {
+                if (buffer.get(position++) == '\n') {
+                    return;
+                }
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException(message + " at byte " + (offset + position) + ".");
+        }
+    }
+
+    // Usage: GraphImporter file [threads] [edgelist|dimacs|mtx]
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: GraphImporter file [threads] [edgelist|dimacs|mtx]");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : ParallelTasks.defaultParallelism();
+        Format format = Format.of(file);
+        if (args.length > 2) {
+            switch (args[2].toLowerCase(Locale.ROOT)) {
+                case "dimacs":
+                    format = Format.DIMACS;
+                    break;
+                case "mtx":
+                    format = Format.MATRIX_MARKET;
+                    break;
+                default:
+                    format = Format.EDGE_LIST;
+            }
+        }
+
+        Result result = read(file, format, threads);
+        System.out.println("Imported " + result);
+        long start = System.nanoTime();
+        if (result.hasRealWeights()) {
+            DoubleEdgeList tree = KruskalMST.compute(result.getVertices(), result.getDoubleEdgeList());
+            System.out.printf(Locale.ROOT, "MST: %d edges, total weight %s in %.1f ms%n",
+                    tree.size(), tree.totalWeight(), (System.nanoTime() - start) / 1e6);
+            return;
+        }
+        MSTResult mst = KruskalMST.compute(result.getVertices(), result.getEdgeList(), false, threads);
+        System.out.printf(Locale.ROOT, "MST: %d edges, total weight %d in %.1f ms%n",
+                mst.getEdgeCount(), mst.getTotalWeight(), (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,124 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Indexed d-ary min-heap over items 0..capacity-1 with long keys, backed by primitive arrays.
+// pos[] maps each item to its heap slot so decreaseKey is O(log_d n). A wider heap makes
+// decreaseKey cheaper and pollMin dearer, which suits Prim on dense graphs.
+public class IndexedDaryHeap {
+    private final int arity;
+    private final int[] heap; // heap[slot] = item
+    private final int[] pos; // pos[item] = slot, or -1 when not in the heap
+    private final long[] key; // key[item]
+    private int size;
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2.");
+        }
+        this.arity = arity;
+        heap = new int[capacity];
+        pos = new int[capacity];
+        key = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return pos[item] >= 0;
+    }
+
+    public long getKey(int item) {
+        return key[item];
+    }
+
+    public void insert(int item, long k) {
+        key[item] = k;
+        heap[size] = item;
+        pos[item] = size;
+        siftUp(size++);
+    }
+
+    // Lowers the key of an item already in the heap; larger keys are ignored
+    public void decreaseKey(int item, long k) {
+        if (k < key[item]) {
+            key[item] = k;
+            siftUp(pos[item]);
+        }
+    }
+
+    // Inserts the item or lowers its key, whichever applies
+    public void insertOrDecrease(int item, long k) {
+        if (pos[item] < 0) {
+            insert(item, k);
+        } else {
+            decreaseKey(item, k);
+        }
+    }
+
+    public int peekMin() {
+        return heap[0];
+    }
+
+    public int pollMin() {
+        int min = heap[0];
+        pos[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int slot) {
+        int item = heap[slot];
+        long k = key[item];
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            int parentItem = heap[parent];
+            if (key[parentItem] <= k) {
+                break;
+            }
+            heap[slot] = parentItem;
+            pos[parentItem] = slot;
+            slot = parent;
+        }
+        heap[slot] = item;
+        pos[item] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int item = heap[slot];
+        long k = key[item];
+        while (true) {
+            int first = slot * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (key[heap[c]] < key[heap[best]]) {
+                    best = c;
+                }
+            }
+            if (key[heap[best]] >= k) {
+                break;
+            }
+            heap[slot] = heap[best];
+            pos[heap[slot]] = slot;
+            slot = best;
+        }
+        heap[slot] = item;
+        pos[item] = slot;
+    }
+}
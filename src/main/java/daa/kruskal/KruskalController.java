@@ -3,8 +3,11 @@ package daa.kruskal;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
@@ -18,6 +21,9 @@ import javafx.scene.text.FontWeight;
 import java.util.*;
 
 public class KruskalController {
+    private static final int MAX_VERTICES = 100_000;
+    private static final int NODE_VIEW_LIMIT = 20; // Larger graphs are drawn on a GraphCanvas
+
     @FXML
     private TextField verticesField;
     @FXML
@@ -67,19 +73,20 @@ public class KruskalController {
     private Map<Integer, Integer> reverseLabelMapping; // Maps display label to internal index
     private List<Point2D> vertexPositions; // Stores current vertex positions
     private Random random = new Random();
-    private Map<String, Line> edgeLinesBlack; // Stores black background edge lines
-    private Map<String, Text> edgeWeightLabelsBlack; // Stores weight labels for black lines
-    private Map<String, Text> edgeStatusLabelsBlack; // Stores status labels for black lines
-    private Map<String, Line> edgeLinesColored; // Stores colored (limegreen/crimson) edge lines
-    private Map<String, Text> edgeWeightLabelsColored; // Stores weight labels for colored lines
-    private Map<String, Text> edgeStatusLabelsColored; // Stores status labels for colored lines
+    private List<List<EdgeNodes>> incidentEdges; // Drawn edges (black and colored) per endpoint, for dragging
     private double dragStartX, dragStartY; // For dragging vertices
-    private List<WeightedGraph.EdgeInfo> allEdges; // All edges for MST
-    private List<WeightedGraph.EdgeInfo> mstEdges; // MST edges
     private int currentStep; // Current step in MST process
-    private int totalWeight; // Total MST weight
-    private Stack<GraphAction> undoStack; // Stack for undo actions
-    private Stack<GraphAction> redoStack; // Stack for redo actions
+    private long totalWeight; // Total MST weight
+    private DynamicMST liveMst; // Tracked by the graph, so it stays current on every edit
+    private MSTResult mstResult; // Kruskal trace being stepped through
+    private MSTStepList stepRows; // Table rows for mstResult, paged in per step
+    private GraphCanvas graphCanvas; // Used instead of the node maps for large graphs
+    private WeightedGraph canvasGraph; // Graph whose vertices the canvas currently holds
+    private Group acceptedLayer, rejectedLayer, checkLayer; // Step overlays, layers hide as a whole in the final view
+    private Line[] stepLines; // Overlay nodes per step, built once per computeMST
+    private Text[] stepWeightLabels;
+    private Text[] stepStatusLabels;
+    private EditHistory history; // Undo/redo log of edge additions and graph replacements
 
 
 
@@ -95,8 +102,7 @@ public class KruskalController {
         prevStepButton.setDisable(true);
         nextStepButton.setDisable(true);
         stepIndicatorLabel.setText("");
-        undoStack = new Stack<>();
-        redoStack = new Stack<>();
+        history = new EditHistory();
 
         // Enable Enter key to add edge
         srcField.setOnAction(event -> addEdge());
@@ -152,27 +158,26 @@ public class KruskalController {
                 errorLabel.setText("Number of vertices must be positive.");
                 return;
             }
-            if (vertices > 20) {
-                errorLabel.setText("Maximum 20 vertices allowed.");
+            if (vertices > MAX_VERTICES) {
+                errorLabel.setText("Maximum " + MAX_VERTICES + " vertices allowed.");
                 return;
             }
-            // Record current graph state for undo
-            GraphAction action = new GraphAction("create", graph != null ? graph.getVertices() : 0,
-                    graph != null ? graph.getAllEdges() : null, vertexPositions, vertexLabelMapping, reverseLabelMapping);
-            undoStack.push(action);
-            redoStack.clear();
+            // Record the new graph and the layout of the one it replaces for undo
+            double[] previousX = layoutX();
+            double[] previousY = layoutY();
             initializeGraph(vertices);
-            drawGraph(false);
+            history.recordCreate(new EditHistory.GraphState(vertices, layoutX(), layoutY(), vertexLabelMapping.clone()),
+                    previousX, previousY);
+            drawGraph();
             errorLabel.setText("Graph created with " + vertices + " vertices.");
             srcField.setDisable(false);
             destField.setDisable(false);
             weightField.setDisable(false);
             addEdgeButton.setDisable(false);
-            undoButton.setDisable(false);
-            redoButton.setDisable(true);
+            updateHistoryButtons();
             mstButton.setDisable(false);
             verticesField.clear();
-            mstTableView.getItems().clear();
+            clearStepTable();
             prevStepButton.setDisable(true);
             nextStepButton.setDisable(true);
             stepIndicatorLabel.setText("");
@@ -212,25 +217,21 @@ public class KruskalController {
             }
 
             // Check for duplicate edge
-            for (Edge edge : graph.getNeighbors(src)) {
-                if (edge.getDestination() == dest) {
-                    errorLabel.setText("Edge already exists.");
-                    return;
-                }
+            if (graph.hasEdge(src, dest)) {
+                errorLabel.setText("Edge already exists.");
+                return;
             }
 
             graph.addEdge(src, dest, weight);
             // Record action for undo
-            undoStack.push(new GraphAction("add", src, dest, weight));
-            redoStack.clear();
-            undoButton.setDisable(false);
-            redoButton.setDisable(true);
-            drawGraph(false);
-            errorLabel.setText("Edge added: (" + (srcLabel+1) + ", " + (destLabel+1) + ", " + weight + ")");
+            history.recordAddEdge(src, dest, weight);
+            updateHistoryButtons();
+            drawGraph();
+            errorLabel.setText("Edge added: (" + (srcLabel+1) + ", " + (destLabel+1) + ", " + weight + "). MST weight: " + liveMst.getTotalWeight());
             srcField.clear();
             destField.clear();
             weightField.clear();
-            mstTableView.getItems().clear();
+            clearStepTable();
             prevStepButton.setDisable(true);
             nextStepButton.setDisable(true);
             stepIndicatorLabel.setText("");
@@ -241,110 +242,116 @@ public class KruskalController {
 
     @FXML
     private void undo() {
-        if (!undoStack.isEmpty()) {
-            GraphAction action = undoStack.pop();
-            if (action.type.equals("add")) {
-                // Undo adding an edge
-                graph.removeEdge(action.source, action.destination);
-                redoStack.push(new GraphAction("remove", action.source, action.destination, action.weight));
-                errorLabel.setText("Undone: Added edge (" + vertexLabelMapping[action.source] + ", " +
-                        vertexLabelMapping[action.destination] + ")");
-                drawGraph(false);
-            } else if (action.type.equals("create")) {
-                // Undo creating a graph
-                redoStack.push(new GraphAction("create", graph != null ? graph.getVertices() : 0,
-                        graph != null ? graph.getAllEdges() : null, vertexPositions, vertexLabelMapping, reverseLabelMapping));
-                if (action.vertices > 0) {
-                    // Restore previous graph
-                    graph = new WeightedGraph(action.vertices);
-                    vertexPositions = action.positions;
-                    vertexLabelMapping = action.labelMapping;
-                    reverseLabelMapping = action.reverseMapping;
-                    for (WeightedGraph.EdgeInfo edge : action.edges) {
-                        graph.addEdge(edge.source, edge.destination, edge.weight);
-                    }
-                    drawGraph(false);
-                    errorLabel.setText("Undone: Created graph with " + action.vertices + " vertices");
-                    srcField.setDisable(false);
-                    destField.setDisable(false);
-                    weightField.setDisable(false);
-                    addEdgeButton.setDisable(false);
-                    mstButton.setDisable(false);
-                } else {
-                    // No previous graph, clear everything
-                    clearGraphInternal();
-                    errorLabel.setText("Undone: Created graph");
-                }
-            } else if (action.type.equals("clear")) {
-                // Undo clearing a graph
-                redoStack.push(new GraphAction("clear", 0, null, null, null, null));
-                graph = new WeightedGraph(action.vertices);
-                vertexPositions = action.positions;
-                vertexLabelMapping = action.labelMapping;
-                reverseLabelMapping = action.reverseMapping;
-                for (WeightedGraph.EdgeInfo edge : action.edges) {
-                    graph.addEdge(edge.source, edge.destination, edge.weight);
-                }
-                drawGraph(false);
+        int type = history.peekUndo();
+        if (type == EditHistory.NONE) {
+            return;
+        }
+        if (type == EditHistory.ADD_EDGE) {
+            // Undo adding an edge
+            int[] edge = history.undoEdge();
+            graph.removeEdge(edge[0], edge[1]);
+            errorLabel.setText("Undone: Added edge (" + vertexLabelMapping[edge[0]] + ", " +
+                    vertexLabelMapping[edge[1]] + "). MST weight: " + liveMst.getTotalWeight());
+            drawGraph();
+        } else {
+            // Undo creating or clearing a graph: bring back the graph it replaced
+            EditHistory.GraphState previous = history.undoReplace(layoutX(), layoutY());
+            restoreGraph(previous);
+            if (type == EditHistory.CLEAR_GRAPH) {
                 errorLabel.setText("Undone: Cleared graph");
-                srcField.setDisable(false);
-                destField.setDisable(false);
-                weightField.setDisable(false);
-                addEdgeButton.setDisable(false);
-                mstButton.setDisable(false);
+            } else if (previous != null) {
+                errorLabel.setText("Undone: Created graph with " + previous.getVertices() + " vertices");
+            } else {
+                errorLabel.setText("Undone: Created graph");
             }
-            mstTableView.getItems().clear();
-            prevStepButton.setDisable(true);
-            nextStepButton.setDisable(true);
-            stepIndicatorLabel.setText("");
-            undoButton.setDisable(undoStack.isEmpty());
-            redoButton.setDisable(redoStack.isEmpty());
         }
+        resetStepControls();
     }
 
     @FXML
     private void redo() {
-        if (!redoStack.isEmpty()) {
-            GraphAction action = redoStack.pop();
-            if (action.type.equals("remove")) {
-                // Redo adding an edge
-                graph.addEdge(action.source, action.destination, action.weight);
-                undoStack.push(new GraphAction("add", action.source, action.destination, action.weight));
-                errorLabel.setText("Redone: Added edge (" + vertexLabelMapping[action.source] + ", " +
-                        vertexLabelMapping[action.destination] + ")");
-                drawGraph(false);
-            } else if (action.type.equals("create")) {
-                // Redo creating a graph
-                undoStack.push(new GraphAction("create", graph != null ? graph.getVertices() : 0,
-                        graph != null ? graph.getAllEdges() : null, vertexPositions, vertexLabelMapping, reverseLabelMapping));
-                initializeGraph(action.vertices);
-                for (WeightedGraph.EdgeInfo edge : action.edges) {
-                    graph.addEdge(edge.source, edge.destination, edge.weight);
-                }
-                vertexPositions = action.positions;
-                vertexLabelMapping = action.labelMapping;
-                reverseLabelMapping = action.reverseMapping;
-                drawGraph(false);
-                errorLabel.setText("Redone: Created graph with " + action.vertices + " vertices");
-                srcField.setDisable(false);
-                destField.setDisable(false);
-                weightField.setDisable(false);
-                addEdgeButton.setDisable(false);
-                mstButton.setDisable(false);
-            } else if (action.type.equals("clear")) {
-                // Redo clearing a graph
-                undoStack.push(new GraphAction("clear", graph != null ? graph.getVertices() : 0,
-                        graph != null ? graph.getAllEdges() : null, vertexPositions, vertexLabelMapping, reverseLabelMapping));
-                clearGraphInternal();
+        int type = history.peekRedo();
+        if (type == EditHistory.NONE) {
+            return;
+        }
+        if (type == EditHistory.ADD_EDGE) {
+            // Redo adding an edge
+            int[] edge = history.redoEdge();
+            graph.addEdge(edge[0], edge[1], edge[2]);
+            errorLabel.setText("Redone: Added edge (" + vertexLabelMapping[edge[0]] + ", " +
+                    vertexLabelMapping[edge[1]] + "). MST weight: " + liveMst.getTotalWeight());
+            drawGraph();
+        } else {
+            EditHistory.GraphState created = history.redoReplace(layoutX(), layoutY());
+            restoreGraph(created);
+            if (type == EditHistory.CLEAR_GRAPH) {
                 errorLabel.setText("Redone: Cleared graph");
+            } else {
+                errorLabel.setText("Redone: Created graph with " + created.getVertices() + " vertices");
             }
-            mstTableView.getItems().clear();
-            prevStepButton.setDisable(true);
-            nextStepButton.setDisable(true);
-            stepIndicatorLabel.setText("");
-            undoButton.setDisable(undoStack.isEmpty());
-            redoButton.setDisable(redoStack.isEmpty());
         }
+        resetStepControls();
+    }
+
+    private void resetStepControls() {
+        clearStepTable();
+        prevStepButton.setDisable(true);
+        nextStepButton.setDisable(true);
+        stepIndicatorLabel.setText("");
+        updateHistoryButtons();
+    }
+
+    private void updateHistoryButtons() {
+        undoButton.setDisable(!history.canUndo());
+        redoButton.setDisable(!history.canRedo());
+    }
+
+    // Rebuilds the graph, layout and labels from a history state; null means no graph
+    private void restoreGraph(EditHistory.GraphState state) {
+        if (state == null) {
+            clearGraphInternal();
+            return;
+        }
+        int n = state.getVertices();
+        graph = WeightedGraph.fromEdges(n, state.getEdges());
+        graph.enableEdgeIndex();
+        liveMst = graph.trackMST();
+        vertexLabelMapping = state.getLabels().clone();
+        reverseLabelMapping = new HashMap<>();
+        vertexPositions = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            reverseLabelMapping.put(vertexLabelMapping[i], i);
+            vertexPositions.add(new Point2D(state.getX()[i], state.getY()[i]));
+        }
+        drawGraph();
+        srcField.setDisable(false);
+        destField.setDisable(false);
+        weightField.setDisable(false);
+        addEdgeButton.setDisable(false);
+        mstButton.setDisable(false);
+    }
+
+    // Current vertex layout as primitive arrays for the history, or null without a graph
+    private double[] layoutX() {
+        if (vertexPositions == null) {
+            return null;
+        }
+        double[] x = new double[vertexPositions.size()];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = vertexPositions.get(i).getX();
+        }
+        return x;
+    }
+
+    private double[] layoutY() {
+        if (vertexPositions == null) {
+            return null;
+        }
+        double[] y = new double[vertexPositions.size()];
+        for (int i = 0; i < y.length; i++) {
+            y[i] = vertexPositions.get(i).getY();
+        }
+        return y;
     }
 
     @FXML
@@ -353,147 +360,150 @@ public class KruskalController {
             errorLabel.setText("Create a graph first.");
             return;
         }
-        allEdges = graph.getAllEdges();
-        if (allEdges.isEmpty()) {
+        MSTResult result = KruskalMST.compute(graph, true);
+        if (result.getStepCount() == 0) {
             errorLabel.setText("No edges in the graph.");
             return;
         }
-        allEdges.sort(Comparator.comparingInt(e -> e.weight));
-
-        UnionFind uf = new UnionFind(graph.getVertices());
-        mstEdges = new ArrayList<>();
-        List<MSTStep> mstSteps = new ArrayList<>();
-        totalWeight = 0;
-
-        for (WeightedGraph.EdgeInfo edge : allEdges) {
-            boolean accepted = uf.union(edge.source, edge.destination);
-            if (accepted) {
-                mstEdges.add(edge);
-                totalWeight += edge.weight;
-            }
-            String edgeStr = "(" + vertexLabelMapping[edge.source] + ", " + vertexLabelMapping[edge.destination] + ")";
-            mstSteps.add(new MSTStep(edgeStr, edge.weight, accepted, totalWeight));
+        mstResult = result;
+        totalWeight = result.getTotalWeight();
+        int[] labels = new int[graph.getVertices()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = vertexLabelMapping[i] + 1;
         }
-
-        mstTableView.getItems().setAll(mstSteps);
+        stepRows = new MSTStepList(result, labels);
+        mstTableView.setItems(stepRows);
         currentStep = -1;
         prevStepButton.setDisable(false);
         nextStepButton.setDisable(false);
         stepIndicatorLabel.setText("");
         errorLabel.setText("Ready to start MST. Press Next to begin.");
-        updateStep(); // Initialize graph
+        buildStepScene();
+        updateStep(currentStep);
     }
 
     @FXML
     private void prevStep() {
         if (currentStep > -1) {
+            int previousStep = currentStep;
             currentStep--;
-            updateStep();
+            updateStep(previousStep);
         }
     }
 
     @FXML
     private void nextStep() {
-        if (currentStep < allEdges.size()) {
+        if (currentStep < mstResult.getStepCount()) {
+            int previousStep = currentStep;
             currentStep++;
-            updateStep();
+            updateStep(previousStep);
         }
     }
 
-    private void updateStep() {
-        graphPane.getChildren().clear();
-        // Do not reinitialize the maps; reuse them to keep references consistent
-        edgeLinesBlack.clear();
-        edgeWeightLabelsBlack.clear();
-        edgeStatusLabelsBlack.clear();
-        edgeLinesColored.clear();
-        edgeWeightLabelsColored.clear();
-        edgeStatusLabelsColored.clear();
-
-        // Draw vertices first to ensure they are below edges
-        drawVertices();
-
-        // Draw all edges in black (background edges)
-        Set<String> drawnEdges = new HashSet<>();
-        for (int u = 0; u < graph.getVertices(); u++) {
-            for (Edge edge : graph.getNeighbors(u)) {
-                int v = edge.getDestination();
-                String edgeKey = Math.min(u, v) + "-" + Math.max(u, v);
-                if (!drawnEdges.contains(edgeKey)) {
-                    drawnEdges.add(edgeKey);
-                    drawEdge(u, v, edge.getWeight(), Color.BLACK, edgeKey, false, true);
+    // Only the steps between previousStep and currentStep change, so stepping restyles one edge
+    private void updateStep(int previousStep) {
+        int from = Math.max(0, Math.min(previousStep, currentStep) + 1);
+        int to = Math.min(mstResult.getStepCount(), Math.max(previousStep, currentStep) + 1);
+        boolean finalView = isFinalMST();
+        if (isLargeGraph()) {
+            for (int i = from; i < to; i++) {
+                byte state = GraphCanvas.UNSEEN;
+                if (i <= currentStep) {
+                    state = mstResult.isAccepted(i) ? GraphCanvas.ACCEPTED : GraphCanvas.REJECTED;
                 }
+                graphCanvas.setState(i, state);
             }
-        }
-
-        // Draw MST edges up to current step in limegreen or crimson
-        drawnEdges.clear();
-        for (int i = 0; i <= currentStep && i < allEdges.size(); i++) {
-            WeightedGraph.EdgeInfo edge = allEdges.get(i);
-            String edgeKey = Math.min(edge.source, edge.destination) + "-" + Math.max(edge.source, edge.destination);
-            if (!drawnEdges.contains(edgeKey)) {
-                drawnEdges.add(edgeKey);
-                boolean isAccepted = mstEdges.contains(edge);
-                drawEdge(edge.source, edge.destination, edge.weight, isAccepted ? Color.LIMEGREEN : Color.CRIMSON, edgeKey, isAccepted, false);
+            graphCanvas.setShowRejected(!finalView);
+            graphCanvas.setShowStatus(!finalView);
+        } else {
+            for (int i = from; i < to; i++) {
+                boolean visible = i <= currentStep;
+                stepLines[i].setVisible(visible);
+                stepWeightLabels[i].setVisible(visible);
+                stepStatusLabels[i].setVisible(visible);
             }
+            // Final view: rejected edges fall back to black and the check marks go away
+            rejectedLayer.setVisible(!finalView);
+            checkLayer.setVisible(!finalView);
         }
+        updateStepTable();
+    }
 
-        // Update TableView to show steps up to current step
-        List<MSTStep> visibleSteps = new ArrayList<>();
-        for (int i = 0; i <= Math.max(0, currentStep) && i < allEdges.size(); i++) {
-            WeightedGraph.EdgeInfo edge = allEdges.get(i);
-            boolean isAccepted = mstEdges.contains(edge);
-            String edgeStr = "(" + (vertexLabelMapping[edge.source]+1) + ", " + (vertexLabelMapping[edge.destination]+1) + ")";
-
-            // Calculate total weight by summing weights of MST edges up to this step
-            int stepTotalWeight = 0;
-            for (int j = 0; j <= i; j++) {
-                WeightedGraph.EdgeInfo priorEdge = allEdges.get(j);
-                if (mstEdges.contains(priorEdge)) {
-                    stepTotalWeight += priorEdge.weight;
-                }
-            }
-
-            visibleSteps.add(new MSTStep(edgeStr, edge.weight, isAccepted, stepTotalWeight));
+    // Creates every node the step view needs up front, with all step overlays hidden
+    private void buildStepScene() {
+        if (isLargeGraph()) {
+            showCanvas(mstResult.getStepList());
+            return;
+        }
+        drawGraph();
+        acceptedLayer = new Group();
+        rejectedLayer = new Group();
+        checkLayer = new Group();
+        graphPane.getChildren().addAll(acceptedLayer, rejectedLayer, checkLayer);
+
+        EdgeList stepList = mstResult.getStepList();
+        int steps = stepList.size();
+        stepLines = new Line[steps];
+        stepWeightLabels = new Text[steps];
+        stepStatusLabels = new Text[steps];
+        for (int i = 0; i < steps; i++) {
+            int u = stepList.getSource(i);
+            int v = stepList.getDestination(i);
+            boolean isAccepted = mstResult.isAccepted(i);
+            List<Node> layer = (isAccepted ? acceptedLayer : rejectedLayer).getChildren();
+            EdgeNodes nodes = drawEdge(u, v, stepList.getWeight(i), isAccepted ? Color.LIMEGREEN : Color.CRIMSON,
+                    isAccepted, false, layer, isAccepted ? checkLayer.getChildren() : layer);
+            stepLines[i] = nodes.line;
+            stepWeightLabels[i] = nodes.weightLabel;
+            stepStatusLabels[i] = nodes.statusLabel;
+            stepLines[i].setVisible(false);
+            stepWeightLabels[i].setVisible(false);
+            stepStatusLabels[i].setVisible(false);
         }
-        mstTableView.getItems().setAll(visibleSteps);
+    }
+
+    private void updateStepTable() {
+        // Rows come from the precomputed trace, so the table only grows or shrinks by one row
+        int steps = mstResult.getStepCount();
+        stepRows.setVisibleCount(currentStep + 1);
 
         // Update step indicator and message
         if (currentStep == -1) {
-            stepIndicatorLabel.setText("Step 0 of " + allEdges.size());
+            stepIndicatorLabel.setText("Step 0 of " + steps);
             errorLabel.setText("Ready to start MST. Press Next to begin.");
             prevStepButton.setDisable(true);
             nextStepButton.setDisable(false);
-            mstTableView.getItems().clear(); // Clear table at step -1
-        } else if (currentStep < allEdges.size()) {
-            WeightedGraph.EdgeInfo edge = allEdges.get(currentStep);
-            boolean isAccepted = mstEdges.contains(edge);
-            stepIndicatorLabel.setText("Step " + (currentStep + 1) + " of " + allEdges.size());
-            errorLabel.setText("Considering edge: (" + vertexLabelMapping[edge.source] + ", " + vertexLabelMapping[edge.destination] + ", " + edge.weight + ") - " +
+        } else if (currentStep < steps) {
+            EdgeList stepList = mstResult.getStepList();
+            boolean isAccepted = mstResult.isAccepted(currentStep);
+            stepIndicatorLabel.setText("Step " + (currentStep + 1) + " of " + steps);
+            errorLabel.setText("Considering edge: (" + vertexLabelMapping[stepList.getSource(currentStep)] + ", " + vertexLabelMapping[stepList.getDestination(currentStep)] + ", " + stepList.getWeight(currentStep) + ") - " +
                     (isAccepted ? "Accepted (added to MST)" : "Rejected (forms a cycle)"));
             prevStepButton.setDisable(currentStep == 0);
-            nextStepButton.setDisable(currentStep == allEdges.size() - 1);
+            nextStepButton.setDisable(currentStep == steps - 1);
+            mstTableView.scrollTo(Math.max(0, currentStep - 5)); // Keep the current row in view
         } else {
-            stepIndicatorLabel.setText("Step " + allEdges.size() + " of " + allEdges.size());
-            errorLabel.setText("MST completed with " + mstEdges.size() + " edges, total weight: " + totalWeight);
+            stepIndicatorLabel.setText("Step " + steps + " of " + steps);
+            errorLabel.setText("MST completed with " + mstResult.getEdgeCount() + " edges, total weight: " + totalWeight);
             prevStepButton.setDisable(false);
             nextStepButton.setDisable(true);
-            drawGraph(true); // Show final MST with black non-MST edges and limegreen MST edges
         }
 
         // Refresh TableView to apply styling
         mstTableView.refresh();
     }
 
+    private void clearStepTable() {
+        stepRows = null;
+        mstTableView.setItems(FXCollections.observableArrayList());
+    }
+
     @FXML
     private void clearGraph() {
         if (graph != null) {
-            // Record current graph state for undo
-            undoStack.push(new GraphAction("clear", graph.getVertices(), graph.getAllEdges(),
-                    vertexPositions, vertexLabelMapping, reverseLabelMapping));
-            redoStack.clear();
-            undoButton.setDisable(false);
-            redoButton.setDisable(true);
+            // Only the layout is recorded; the edges are replayed from the log on undo
+            history.recordClear(layoutX(), layoutY());
+            updateHistoryButtons();
         }
         clearGraphInternal();
         errorLabel.setText("Graph cleared.");
@@ -501,19 +511,15 @@ public class KruskalController {
 
     private void clearGraphInternal() {
         graph = null;
+        liveMst = null;
         vertexCircles = null;
         vertexLabels = null;
         vertexLabelMapping = null;
         reverseLabelMapping = null;
         vertexPositions = null;
-        edgeLinesBlack = null;
-        edgeWeightLabelsBlack = null;
-        edgeStatusLabelsBlack = null;
-        edgeLinesColored = null;
-        edgeWeightLabelsColored = null;
-        edgeStatusLabelsColored = null;
-        allEdges = null;
-        mstEdges = null;
+        incidentEdges = null;
+        mstResult = null;
+        canvasGraph = null;
         currentStep = -1;
         totalWeight = 0;
         graphPane.getChildren().clear();
@@ -529,11 +535,13 @@ public class KruskalController {
         mstButton.setDisable(true);
         prevStepButton.setDisable(true);
         nextStepButton.setDisable(true);
-        mstTableView.getItems().clear();
+        clearStepTable();
     }
 
     private void initializeGraph(int vertices) {
         graph = new WeightedGraph(vertices);
+        graph.enableEdgeIndex();
+        liveMst = graph.trackMST();
         vertexLabelMapping = new int[vertices];
         reverseLabelMapping = new HashMap<>();
         List<Integer> labels = new ArrayList<>();
@@ -548,6 +556,20 @@ public class KruskalController {
 
         // Initialize vertex positions
         vertexPositions = new ArrayList<>();
+        if (vertices > NODE_VIEW_LIMIT) {
+            // Large graphs get a spacious grid; the canvas zooms to fit it
+            int columns = (int) Math.ceil(Math.sqrt(vertices));
+            double spacing = 6 * vertexRadius;
+            List<Integer> cells = new ArrayList<>();
+            for (int i = 0; i < vertices; i++) {
+                cells.add(i);
+            }
+            Collections.shuffle(cells, random);
+            for (int i = 0; i < vertices; i++) {
+                vertexPositions.add(new Point2D(cells.get(i) % columns * spacing, cells.get(i) / columns * spacing));
+            }
+            return;
+        }
         double centerX = graphPane.getPrefWidth() / 2;
         double centerY = graphPane.getPrefHeight() / 2;
         boolean isPerfectSquare = isPerfectSquare(vertices);
@@ -579,62 +601,67 @@ public class KruskalController {
                 vertexPositions.add(new Point2D(x, y));
             }
         }
+    }
 
-        edgeLinesBlack = new HashMap<>();
-        edgeWeightLabelsBlack = new HashMap<>();
-        edgeStatusLabelsBlack = new HashMap<>();
-        edgeLinesColored = new HashMap<>();
-        edgeWeightLabelsColored = new HashMap<>();
-        edgeStatusLabelsColored = new HashMap<>();
+    private void initializeIncidentEdges() {
+        int n = vertexPositions.size();
+        incidentEdges = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            incidentEdges.add(new ArrayList<>());
+        }
     }
 
-    private void drawGraph(boolean isMST) {
+    private void drawGraph() {
         graphPane.getChildren().clear();
-        edgeLinesBlack = new HashMap<>();
-        edgeWeightLabelsBlack = new HashMap<>();
-        edgeStatusLabelsBlack = new HashMap<>();
-        edgeLinesColored = new HashMap<>();
-        edgeWeightLabelsColored = new HashMap<>();
-        edgeStatusLabelsColored = new HashMap<>();
         if (graph == null) return;
 
+        if (isLargeGraph()) {
+            showCanvas(graph.getEdgeList());
+            graphCanvas.setShowStatus(false);
+            return;
+        }
+
+        initializeIncidentEdges();
+
         drawVertices();
 
-        // Draw all edges in black initially with crimson weight labels
-        Set<String> drawnEdges = new HashSet<>();
-        for (int u = 0; u < graph.getVertices(); u++) {
-            for (Edge edge : graph.getNeighbors(u)) {
-                int v = edge.getDestination();
-                String edgeKey = Math.min(u, v) + "-" + Math.max(u, v);
-                if (!drawnEdges.contains(edgeKey)) {
-                    drawnEdges.add(edgeKey);
-                    drawEdge(u, v, edge.getWeight(), Color.BLACK, edgeKey, false, true);
-                }
-            }
+        // Draw all edges in black initially with crimson weight labels, each pair once
+        EdgeList edges = graph.getEdgeList();
+        for (int i = 0; i < edges.size(); i++) {
+            drawEdge(edges.getSource(i), edges.getDestination(i), edges.getWeight(i), Color.BLACK, false, true);
         }
+    }
 
-        // If in MST mode, update the color of MST edges and their weight labels to limegreen
-        if (isMST) {
-            for (WeightedGraph.EdgeInfo edge : mstEdges) {
-                int u = edge.source;
-                int v = edge.destination;
-                String edgeKey = Math.min(u, v) + "-" + Math.max(u, v);
-                // Update the existing line color to limegreen
-                Line line = edgeLinesBlack.get(edgeKey);
-                if (line != null) {
-                    line.setStroke(Color.LIMEGREEN);
-                }
-                // Update the existing weight label color to limegreen
-                Text weightLabel = edgeWeightLabelsBlack.get(edgeKey);
-                if (weightLabel != null) {
-                    weightLabel.setFill(Color.LIMEGREEN);
-                }
-                // Ensure no check/X symbol in final MST view
-                Text statusLabel = edgeStatusLabelsBlack.get(edgeKey);
-                if (statusLabel != null) {
-                    statusLabel.setText("");
-                }
+    private boolean isLargeGraph() {
+        return graph != null && graph.getVertices() > NODE_VIEW_LIMIT;
+    }
+
+    // Puts the canvas in the pane with the given edges; the view is only refitted for a new graph
+    private void showCanvas(EdgeList edges) {
+        if (graphCanvas == null) {
+            graphCanvas = new GraphCanvas();
+            graphCanvas.widthProperty().bind(graphPane.widthProperty());
+            graphCanvas.heightProperty().bind(graphPane.heightProperty());
+        }
+        if (graphPane.getChildren().size() != 1 || graphPane.getChildren().get(0) != graphCanvas) {
+            graphPane.getChildren().setAll(graphCanvas);
+        }
+        if (canvasGraph != graph) {
+            canvasGraph = graph;
+            int n = graph.getVertices();
+            double[] x = new double[n];
+            double[] y = new double[n];
+            int[] labels = new int[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = vertexPositions.get(i).getX();
+                y[i] = vertexPositions.get(i).getY();
+                labels[i] = vertexLabelMapping[i] + 1;
             }
+            graphCanvas.setVertices(x, y, labels);
+            graphCanvas.setEdges(edges);
+            graphCanvas.fitToView();
+        } else if (graphCanvas.getEdges() != edges) {
+            graphCanvas.setEdges(edges);
         }
     }
 
@@ -683,53 +710,22 @@ public class KruskalController {
         }
     }
 
-    private boolean isMstEdge(int u, int v) {
-        if (mstEdges == null) return false;
-        for (WeightedGraph.EdgeInfo e : mstEdges) {
-            if ((e.source == u && e.destination == v) || (e.source == v && e.destination == u)) {
-                return true;
-            }
-        }
-        return false;
+    private void drawEdge(int u, int v, int weight, Color color, boolean isAccepted, boolean isBlack) {
+        drawEdge(u, v, weight, color, isAccepted, isBlack, graphPane.getChildren(), graphPane.getChildren());
     }
 
-    private void drawEdge(int u, int v, int weight, Color color, String edgeKey, boolean isAccepted, boolean isBlack) {
-        double x1 = vertexCircles[u].getCenterX();
-        double y1 = vertexCircles[u].getCenterY();
-        double x2 = vertexCircles[v].getCenterX();
-        double y2 = vertexCircles[v].getCenterY();
-
-        // Ensure edges connect to vertex boundaries
-        double angle = Math.atan2(y2 - y1, x2 - x1);
-        double startX = x1 + vertexRadius * Math.cos(angle);
-        double startY = y1 + vertexRadius * Math.sin(angle);
-        double endX = x2 - vertexRadius * Math.cos(angle);
-        double endY = y2 - vertexRadius * Math.sin(angle);
-
-        Line line = new Line(startX, startY, endX, endY);
+    // The line and weight label go into lineLayer, the check/X symbol into statusLayer
+    private EdgeNodes drawEdge(int u, int v, int weight, Color color, boolean isAccepted, boolean isBlack,
+                               List<Node> lineLayer, List<Node> statusLayer) {
+        Line line = new Line();
         line.setStroke(color);
         line.setStrokeWidth(2.0);
-        line.setUserData(new int[]{u, v});
-        if (isBlack) {
-            edgeLinesBlack.put(edgeKey, line);
-        } else {
-            edgeLinesColored.put(edgeKey, line);
-        }
 
-        double midX = (startX + endX) / 2;
-        double midY = (startY + endY) / 2;
-        // Horizontal offset for weight label
-        Text weightLabel = new Text(midX - 10, midY, String.valueOf(weight));
+        Text weightLabel = new Text(String.valueOf(weight));
         weightLabel.setFill(isBlack ? Color.CRIMSON : color); // Crimson for black lines, matching color for MST lines
-        weightLabel.setUserData(new int[]{u, v});
-        if (isBlack) {
-            edgeWeightLabelsBlack.put(edgeKey, weightLabel);
-        } else {
-            edgeWeightLabelsColored.put(edgeKey, weightLabel);
-        }
 
         // Add check/X symbol for MST edges during step-by-step
-        Text statusLabel = new Text(midX + 5, midY, "");
+        Text statusLabel = new Text("");
         if (!isBlack) { // Only for colored lines in step-by-step view
             if (color == Color.LIMEGREEN && !isFinalMST()) {
                 statusLabel.setText("\u2714"); // Check mark
@@ -739,129 +735,75 @@ public class KruskalController {
                 statusLabel.setFill(Color.CRIMSON);
             }
         }
-        statusLabel.setUserData(new int[]{u, v});
-        if (isBlack) {
-            edgeStatusLabelsBlack.put(edgeKey, statusLabel);
-        } else {
-            edgeStatusLabelsColored.put(edgeKey, statusLabel);
-        }
 
-        graphPane.getChildren().addAll(line, weightLabel, statusLabel);
+        EdgeNodes nodes = new EdgeNodes(u, v, line, weightLabel, statusLabel);
+        positionEdge(nodes);
+        incidentEdges.get(u).add(nodes);
+        if (v != u) {
+            incidentEdges.get(v).add(nodes);
+        }
+        lineLayer.add(line);
+        lineLayer.add(weightLabel);
+        statusLayer.add(statusLabel);
+        return nodes;
     }
 
     private boolean isFinalMST() {
-        return currentStep >= allEdges.size();
+        return currentStep >= mstResult.getStepCount();
     }
 
+    // Only the dragged vertex's own edges move, found through the incident-edge index
     private void updateEdges(int vertexIndex) {
-        // Collect edges that need updating (involving the dragged vertex)
-        List<String> edgesToUpdate = new ArrayList<>();
-        // Check black lines
-        for (String edgeKey : edgeLinesBlack.keySet()) {
-            int[] vertices = (int[]) edgeLinesBlack.get(edgeKey).getUserData();
-            if (vertices[0] == vertexIndex || vertices[1] == vertexIndex) {
-                edgesToUpdate.add(edgeKey);
-            }
+        for (EdgeNodes nodes : incidentEdges.get(vertexIndex)) {
+            positionEdge(nodes);
         }
-        // Check colored lines (won't have duplicates since drawnEdges prevents it)
-        for (String edgeKey : edgeLinesColored.keySet()) {
-            int[] vertices = (int[]) edgeLinesColored.get(edgeKey).getUserData();
-            if (vertices[0] == vertexIndex || vertices[1] == vertexIndex) {
-                edgesToUpdate.add(edgeKey);
-            }
-        }
-
-        // Update all relevant edges
-        for (String edgeKey : edgesToUpdate) {
-            // Get the vertices for this edge
-            int[] vertices;
-            Line lineBlack = edgeLinesBlack.get(edgeKey);
-            if (lineBlack != null) {
-                vertices = (int[]) lineBlack.getUserData();
-            } else {
-                // If not in black, must be in colored
-                vertices = (int[]) edgeLinesColored.get(edgeKey).getUserData();
-            }
-            int u = vertices[0];
-            int v = vertices[1];
-            int weight = 0;
-            for (Edge edge : graph.getNeighbors(u)) {
-                if (edge.getDestination() == v) {
-                    weight = edge.getWeight();
-                    break;
-                }
-            }
-
-            double x1 = vertexCircles[u].getCenterX();
-            double y1 = vertexCircles[u].getCenterY();
-            double x2 = vertexCircles[v].getCenterX();
-            double y2 = vertexCircles[v].getCenterY();
-
-            double angle = Math.atan2(y2 - y1, x2 - x1);
-            double startX = x1 + vertexRadius * Math.cos(angle);
-            double startY = y1 + vertexRadius * Math.sin(angle);
-            double endX = x2 - vertexRadius * Math.cos(angle);
-            double endY = y2 - vertexRadius * Math.sin(angle);
-
-            double midX = (startX + endX) / 2;
-            double midY = (startY + endY) / 2;
-
-            // Update black line and its labels
-            if (lineBlack != null) {
-                lineBlack.setStartX(startX);
-                lineBlack.setStartY(startY);
-                lineBlack.setEndX(endX);
-                lineBlack.setEndY(endY);
-
-                Text weightLabelBlack = edgeWeightLabelsBlack.get(edgeKey);
-                if (weightLabelBlack != null) {
-                    weightLabelBlack.setX(midX - 10);
-                    weightLabelBlack.setY(midY);
-                }
+    }
 
-                Text statusLabelBlack = edgeStatusLabelsBlack.get(edgeKey);
-                if (statusLabelBlack != null) {
-                    statusLabelBlack.setX(midX + 5);
-                    statusLabelBlack.setY(midY);
-                    // In drawGraph (final MST view), status labels are cleared
-                    // No need to update check/X here since drawGraph handles it
-                }
-            }
+    private void positionEdge(EdgeNodes nodes) {
+        double x1 = vertexCircles[nodes.u].getCenterX();
+        double y1 = vertexCircles[nodes.u].getCenterY();
+        double x2 = vertexCircles[nodes.v].getCenterX();
+        double y2 = vertexCircles[nodes.v].getCenterY();
 
-            // Update colored line and its labels (if it exists)
-            Line lineColored = edgeLinesColored.get(edgeKey);
-            if (lineColored != null) {
-                lineColored.setStartX(startX);
-                lineColored.setStartY(startY);
-                lineColored.setEndX(endX);
-                lineColored.setEndY(endY);
-
-                Text weightLabelColored = edgeWeightLabelsColored.get(edgeKey);
-                if (weightLabelColored != null) {
-                    weightLabelColored.setX(midX - 10);
-                    weightLabelColored.setY(midY);
-                }
+        // Ensure edges connect to vertex boundaries
+        double angle = Math.atan2(y2 - y1, x2 - x1);
+        double startX = x1 + vertexRadius * Math.cos(angle);
+        double startY = y1 + vertexRadius * Math.sin(angle);
+        double endX = x2 - vertexRadius * Math.cos(angle);
+        double endY = y2 - vertexRadius * Math.sin(angle);
+        nodes.line.setStartX(startX);
+        nodes.line.setStartY(startY);
+        nodes.line.setEndX(endX);
+        nodes.line.setEndY(endY);
 
-                Text statusLabelColored = edgeStatusLabelsColored.get(edgeKey);
-                if (statusLabelColored != null) {
-                    statusLabelColored.setX(midX + 5);
-                    statusLabelColored.setY(midY);
-                    if (lineColored.getStroke() == Color.LIMEGREEN && !isFinalMST()) {
-                        statusLabelColored.setText("\u2714");
-                        statusLabelColored.setFill(Color.LIMEGREEN);
-                    } else if (lineColored.getStroke() == Color.CRIMSON) {
-                        statusLabelColored.setText("\u2717");
-                        statusLabelColored.setFill(Color.CRIMSON);
-                    } else {
-                        statusLabelColored.setText("");
-                    }
-                }
-            }
-        }
+        double midX = (startX + endX) / 2;
+        double midY = (startY + endY) / 2;
+        // Horizontal offset for weight label
+        nodes.weightLabel.setX(midX - 10);
+        nodes.weightLabel.setY(midY);
+        nodes.statusLabel.setX(midX + 5);
+        nodes.statusLabel.setY(midY);
     }
 
     private boolean isPerfectSquare(int n) {
         int sqrt = (int) Math.sqrt(n);
         return sqrt * sqrt == n;
     }
+
+    // Scene nodes of one drawn edge, with its endpoints cached for drag updates
+    private static class EdgeNodes {
+        final int u;
+        final int v;
+        final Line line;
+        final Text weightLabel;
+        final Text statusLabel;
+
+        EdgeNodes(int u, int v, Line line, Text weightLabel, Text statusLabel) {
+            this.u = u;
+            this.v = v;
+            this.line = line;
+            this.weightLabel = weightLabel;
+            this.statusLabel = statusLabel;
+        }
+    }
 }
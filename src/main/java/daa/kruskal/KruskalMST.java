@@ -0,0 +1,225 @@
+package daa.kruskal;
+
+import java.nio.IntBuffer;
+import java.util.List;
+
+// UI-free Kruskal engine. KruskalController uses it for the step-by-step view,
+// batch jobs can call it directly without starting JavaFX.
+public class KruskalMST {
+
+    private KruskalMST() {
+    }
+
+    public static MSTResult compute(WeightedGraph graph) {
+        return compute(graph, false);
+    }
+
+    public static MSTResult compute(WeightedGraph graph, boolean recordTrace) {
+        return compute(graph.getVertices(), graph.getEdgeList(), recordTrace);
+    }
+
+    public static MSTResult compute(CSRGraph graph, boolean recordTrace) {
+        return compute(graph.getVertices(), graph.toEdgeList(), recordTrace);
+    }
+
+    // A weight-sorted file is scanned straight from the mapping into the UnionFind, with no
+    // sort and no copy; other files are copied onto the heap and sorted first.
+    // INT32 files only: INT64 and FLOAT64 files go through computeLong and computeDouble.
+    public static MSTResult compute(MappedGraph graph) {
+        if (graph.getWeightType() != GraphFile.WeightType.INT32) {
+            throw new IllegalArgumentException("Graph file stores " + graph.getWeightType()
+                    + " weights, use computeLong or computeDouble.");
+        }
+        if (!graph.isSortedByWeight()) {
+            return compute(graph.getVertices(), graph.toEdgeList(), false);
+        }
+        IntBuffer src = graph.sources();
+        IntBuffer dst = graph.destinations();
+        IntBuffer weight = graph.weights();
+        int vertices = graph.getVertices();
+        UnionFind uf = new UnionFind(vertices);
+        EdgeList mstEdges = new EdgeList(Math.max(vertices - 1, 1));
+        long totalWeight = 0;
+        for (int i = 0; i < graph.getEdgeCount() && uf.getComponentCount() > 1; i++) {
+            int u = src.get(i);
+            int v = dst.get(i);
+            if (uf.union(u, v)) {
+                mstEdges.add(u, v, weight.get(i));
+                totalWeight += weight.get(i);
+            }
+        }
+        return new MSTResult(mstEdges, totalWeight, null, null);
+    }
+
+    // Tree of an INT32 or INT64 file, with long weights
+    public static LongEdgeList computeLong(MappedGraph graph) {
+        if (!graph.isSortedByWeight()) {
+            return compute(graph.getVertices(), graph.toLongEdgeList());
+        }
+        IntBuffer src = graph.sources();
+        IntBuffer dst = graph.destinations();
+        UnionFind uf = new UnionFind(graph.getVertices());
+        LongEdgeList mstEdges = new LongEdgeList(Math.max(graph.getVertices() - 1, 1));
+        for (int i = 0; i < graph.getEdgeCount() && uf.getComponentCount() > 1; i++) {
+            if (uf.union(src.get(i), dst.get(i))) {
+                mstEdges.add(src.get(i), dst.get(i), graph.longWeight(i));
+            }
+        }
+        return mstEdges;
+    }
+
+    // Tree of a file with any weight type, with double weights
+    public static DoubleEdgeList computeDouble(MappedGraph graph) {
+        if (!graph.isSortedByWeight()) {
+            return compute(graph.getVertices(), graph.toDoubleEdgeList());
+        }
+        IntBuffer src = graph.sources();
+        IntBuffer dst = graph.destinations();
+        UnionFind uf = new UnionFind(graph.getVertices());
+        DoubleEdgeList mstEdges = new DoubleEdgeList(Math.max(graph.getVertices() - 1, 1));
+        for (int i = 0; i < graph.getEdgeCount() && uf.getComponentCount() > 1; i++) {
+            if (uf.union(src.get(i), dst.get(i))) {
+                mstEdges.add(src.get(i), dst.get(i), graph.doubleWeight(i));
+            }
+        }
+        return mstEdges;
+    }
+
+    public static MSTResult compute(int vertices, List<WeightedGraph.EdgeInfo> edges, boolean recordTrace) {
+        return compute(vertices, EdgeList.of(edges), recordTrace);
+    }
+
+    public static MSTResult compute(int vertices, EdgeList edges, boolean recordTrace) {
+        return compute(vertices, edges, recordTrace, 1);
+    }
+
+    // Sorts the given list in place by weight, then scans it once. No per-edge allocation.
+    // With parallelism > 1 the sort runs on that many threads; the scan stays sequential.
+    public static MSTResult compute(int vertices, EdgeList edges, boolean recordTrace, int parallelism) {
+        edges.sortByWeight(parallelism);
+        int[] src = edges.sources();
+        int[] dst = edges.destinations();
+        int[] weight = edges.weights();
+        int m = edges.size();
+
+        UnionFind uf = new UnionFind(vertices);
+        EdgeList mstEdges = new EdgeList(Math.max(Math.min(vertices - 1, m), 1));
+        boolean[] accepted = recordTrace ? new boolean[m] : null;
+        long totalWeight = 0;
+
+        for (int i = 0; i < m; i++) {
+            if (uf.union(src[i], dst[i])) {
+                mstEdges.add(src[i], dst[i], weight[i]);
+                totalWeight += weight[i];
+                if (recordTrace) {
+                    accepted[i] = true;
+                } else if (uf.getComponentCount() == 1) {
+                    break; // Spanning tree complete, the remaining edges can only form cycles
+                }
+            }
+        }
+        return new MSTResult(mstEdges, totalWeight, recordTrace ? edges : null, accepted);
+    }
+
+    public static MSTResult computeLazy(WeightedGraph graph, boolean recordTrace) {
+        return computeLazy(graph.getVertices(), graph.getEdgeList(), recordTrace);
+    }
+
+    // Kruskal with early termination and a lazy sort: the edges are heapified in O(E) and
+    // popped in weight order only until V - components edges are accepted, so on dense
+    // graphs most edges are never ordered. Ties break by edge index, giving the same tree
+    // as compute(). The trace, if recorded, holds only the edges actually inspected.
+    // The given list is left unmodified.
+    public static MSTResult computeLazy(int vertices, EdgeList edges, boolean recordTrace) {
+        int[] src = edges.sources();
+        int[] dst = edges.destinations();
+        int[] weight = edges.weights();
+        int m = edges.size();
+
+        // A cheap unsorted pass tells us how many edges the forest needs
+        UnionFind components = new UnionFind(vertices);
+        for (int i = 0; i < m; i++) {
+            components.union(src[i], dst[i]);
+        }
+        int target = vertices - components.getComponentCount();
+
+        long[] heap = new long[m];
+        for (int i = 0; i < m; i++) {
+            heap[i] = ((long) weight[i] << 32) | i;
+        }
+        for (int i = (m >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, i, m);
+        }
+
+        UnionFind uf = new UnionFind(vertices);
+        EdgeList mstEdges = new EdgeList(Math.max(target, 1));
+        EdgeList steps = recordTrace ? new EdgeList() : null;
+        boolean[] accepted = recordTrace ? new boolean[Math.max(m, 1)] : null;
+        long totalWeight = 0;
+        int heapSize = m;
+
+        while (mstEdges.size() < target && heapSize > 0) {
+            int i = (int) heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, 0, heapSize);
+
+            boolean joined = uf.union(src[i], dst[i]);
+            if (joined) {
+                mstEdges.add(src[i], dst[i], weight[i]);
+                totalWeight += weight[i];
+            }
+            if (recordTrace) {
+                accepted[steps.size()] = joined;
+                steps.add(src[i], dst[i], weight[i]);
+            }
+        }
+        return new MSTResult(mstEdges, totalWeight, steps, accepted);
+    }
+
+    private static void siftDown(long[] heap, int i, int size) {
+        long key = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= key) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+
+    public static LongEdgeList compute(int vertices, LongEdgeList edges) {
+        edges.sortByWeight();
+        UnionFind uf = new UnionFind(vertices);
+        LongEdgeList mstEdges = new LongEdgeList(Math.max(Math.min(vertices - 1, edges.size()), 1));
+        for (int i = 0; i < edges.size(); i++) {
+            if (uf.union(edges.getSource(i), edges.getDestination(i))) {
+                mstEdges.add(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+                if (uf.getComponentCount() == 1) {
+                    break; // Spanning tree complete
+                }
+            }
+        }
+        return mstEdges;
+    }
+
+    public static DoubleEdgeList compute(int vertices, DoubleEdgeList edges) {
+        edges.sortByWeight();
+        UnionFind uf = new UnionFind(vertices);
+        DoubleEdgeList mstEdges = new DoubleEdgeList(Math.max(Math.min(vertices - 1, edges.size()), 1));
+        for (int i = 0; i < edges.size(); i++) {
+            if (uf.union(edges.getSource(i), edges.getDestination(i))) {
+                mstEdges.add(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+                if (uf.getComponentCount() == 1) {
+                    break; // Spanning tree complete
+                }
+            }
+        }
+        return mstEdges;
+    }
+}
@@ -0,0 +1,191 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// Link-cut tree (Sleator-Tarjan) over nodes 0..size-1, stored in primitive arrays.
+// Each node carries a value and every splay subtree tracks the node with the largest value,
+// so the maximum on any tree path is found in O(log n) amortized. Used by DynamicMST, where
+// tree edges are extra nodes whose value is the edge weight.
+public class LinkCutTree {
+    private static final int NIL = -1;
+
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent; // Splay parent, or path-parent when this node is a splay root
+    private final boolean[] reversed; // Children of this subtree still have to be swapped
+    private final long[] value;
+    private final int[] maxNode; // Node with the largest value in this splay subtree
+    private final int[] stack; // Scratch space for pushing reversals down before a splay
+
+    public LinkCutTree(int size) {
+        left = new int[size];
+        right = new int[size];
+        parent = new int[size];
+        reversed = new boolean[size];
+        value = new long[size];
+        maxNode = new int[size];
+        stack = new int[size];
+        Arrays.fill(left, NIL);
+        Arrays.fill(right, NIL);
+        Arrays.fill(parent, NIL);
+        Arrays.fill(value, Long.MIN_VALUE);
+        for (int i = 0; i < size; i++) {
+            maxNode[i] = i;
+        }
+    }
+
+    // Only valid while the node is not linked to anything
+    public void setValue(int node, long v) {
+        value[node] = v;
+        maxNode[node] = node;
+    }
+
+    public long getValue(int node) {
+        return value[node];
+    }
+
+    public boolean connected(int u, int v) {
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    // Links two nodes of different trees
+    public void link(int u, int v) {
+        makeRoot(u);
+        parent[u] = v;
+    }
+
+    // Removes the edge between two adjacent nodes
+    public void cut(int u, int v) {
+        makeRoot(u);
+        access(v);
+        splay(v);
+        // u is now v's left child with nothing in between
+        left[v] = NIL;
+        parent[u] = NIL;
+        update(v);
+    }
+
+    // Node with the largest value on the path between u and v, which must be connected
+    public int pathMax(int u, int v) {
+        makeRoot(u);
+        access(v);
+        splay(v);
+        return maxNode[v];
+    }
+
+    public int findRoot(int x) {
+        access(x);
+        splay(x);
+        while (true) {
+            pushDown(x);
+            if (left[x] == NIL) {
+                break;
+            }
+            x = left[x];
+        }
+        splay(x);
+        return x;
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        splay(x);
+        toggle(x);
+    }
+
+    // Makes the root-to-x path preferred, leaving x at the top of its splay tree
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            update(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void splay(int x) {
+        int depth = 0;
+        stack[depth++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            stack[depth++] = parent[y];
+        }
+        while (depth > 0) {
+            pushDown(stack[--depth]);
+        }
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        if (!isSplayRoot(p)) {
+            if (left[g] == p) {
+                left[g] = x;
+            } else {
+                right[g] = x;
+            }
+        }
+        parent[x] = g;
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) {
+                parent[right[x]] = p;
+            }
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) {
+                parent[left[x]] = p;
+            }
+            left[x] = p;
+        }
+        parent[p] = x;
+        update(p);
+        update(x);
+    }
+
+    private void update(int x) {
+        int best = x;
+        if (left[x] != NIL && value[maxNode[left[x]]] > value[best]) {
+            best = maxNode[left[x]];
+        }
+        if (right[x] != NIL && value[maxNode[right[x]]] > value[best]) {
+            best = maxNode[right[x]];
+        }
+        maxNode[x] = best;
+    }
+
+    private void toggle(int x) {
+        int tmp = left[x];
+        left[x] = right[x];
+        right[x] = tmp;
+        reversed[x] = !reversed[x];
+    }
+
+    private void pushDown(int x) {
+        if (reversed[x]) {
+            if (left[x] != NIL) {
+                toggle(left[x]);
+            }
+            if (right[x] != NIL) {
+                toggle(right[x]);
+            }
+            reversed[x] = false;
+        }
+    }
+}
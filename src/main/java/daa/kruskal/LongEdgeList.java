@@ -0,0 +1,58 @@
+package daa.kruskal;
+
+import java.util.Arrays;
+
+// EdgeList variant with long weights, for inputs whose weights do not fit in an int
+public class LongEdgeList extends EndpointList {
+    private long[] weight;
+
+    public LongEdgeList() {
+        this(16);
+    }
+
+    public LongEdgeList(int capacity) {
+        super(capacity);
+        weight = new long[src.length];
+    }
+
+    public LongEdgeList(int[] src, int[] dst, long[] weight) {
+        super(src, dst, weight.length);
+        this.weight = weight;
+    }
+
+    public void add(int source, int destination, long w) {
+        int i = append(source, destination); // May grow the weight array, so index it after
+        weight[i] = w;
+    }
+
+    public long getWeight(int i) {
+        return weight[i];
+    }
+
+    public long[] weights() {
+        return weight;
+    }
+
+    public long totalWeight() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weight[i];
+        }
+        return total;
+    }
+
+    // Stable sort by weight: edges with equal weight keep their insertion order
+    public void sortByWeight() {
+        reorder(EdgeSorts.stableOrder(weight, size));
+    }
+
+    @Override
+    void resizeWeights(int capacity) {
+        weight = Arrays.copyOf(weight, capacity);
+    }
+
+    @Override
+    void gatherWeights(int[] order) {
+        weight = EdgeSorts.gather(weight, order);
+    }
+}
@@ -0,0 +1,8 @@
+package daa.kruskal;
+
+public enum MSTAlgorithm {
+    KRUSKAL,
+    FILTER_KRUSKAL,
+    BORUVKA,
+    PRIM
+}
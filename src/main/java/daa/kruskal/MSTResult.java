@@ -0,0 +1,70 @@
+package daa.kruskal;
+
+import java.util.List;
+
+public class MSTResult {
+    private final EdgeList edges; // Edges of the spanning tree (or forest)
+    private final long totalWeight;
+    private final EdgeList steps; // Edges in the order they were considered, null if not traced
+    private final boolean[] accepted; // accepted[i] is true when step i joined the tree
+
+    MSTResult(EdgeList edges, long totalWeight, EdgeList steps, boolean[] accepted) {
+        this.edges = edges;
+        this.totalWeight = totalWeight;
+        this.steps = steps;
+        this.accepted = accepted;
+    }
+
+    // Primitive view of the tree edges; callers must not modify it
+    public EdgeList getEdgeList() {
+        return edges;
+    }
+
+    // Materialises the tree edges as EdgeInfo objects
+    public List<WeightedGraph.EdgeInfo> getEdges() {
+        return edges.toEdgeInfoList();
+    }
+
+    public int getEdgeCount() {
+        return edges.size();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public boolean hasTrace() {
+        return steps != null;
+    }
+
+    // Number of edges examined by the algorithm, only available with a trace
+    public int getStepCount() {
+        return steps != null ? steps.size() : 0;
+    }
+
+    public EdgeList getStepList() {
+        return steps;
+    }
+
+    public List<WeightedGraph.EdgeInfo> getSteps() {
+        return steps != null ? steps.toEdgeInfoList() : List.of();
+    }
+
+    public boolean isAccepted(int step) {
+        return accepted[step];
+    }
+
+    // Builds the MST as a standalone graph, e.g. for printing or further processing
+    public WeightedGraph toGraph(int vertices) {
+        WeightedGraph tree = new WeightedGraph(vertices);
+        for (int i = 0; i < edges.size(); i++) {
+            tree.addEdge(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+        }
+        return tree;
+    }
+
+    @Override
+    public String toString() {
+        return "MSTResult [edges=" + getEdges() + ", totalWeight=" + totalWeight + "]";
+    }
+}
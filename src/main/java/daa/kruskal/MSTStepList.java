@@ -0,0 +1,67 @@
+package daa.kruskal;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Table rows for a Kruskal trace, created on demand from the accepted flags and a prefix sum of
+// the accepted weights. Only the first visible steps are in the list; moving that
+// count by one step fires a single add or remove, and the TableView only asks for the rows on
+// screen, so stepping through any number of edges stays O(1).
+class MSTStepList extends ObservableListBase<MSTStep> {
+    private final EdgeList steps;
+    private final MSTResult result;
+    private final int[] labels; // Display label per vertex
+    private final long[] runningWeights; // MST weight after each step
+    private int visibleCount;
+
+    MSTStepList(MSTResult result, int[] labels) {
+        this.steps = result.getStepList();
+        this.result = result;
+        this.labels = labels;
+        this.runningWeights = new long[steps.size()];
+        long running = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            if (result.isAccepted(i)) {
+                running += steps.getWeight(i);
+            }
+            runningWeights[i] = running;
+        }
+    }
+
+    void setVisibleCount(int count) {
+        count = Math.max(0, Math.min(count, steps.size()));
+        if (count == visibleCount) {
+            return;
+        }
+        int previous = visibleCount;
+        beginChange();
+        if (count > previous) {
+            visibleCount = count;
+            nextAdd(previous, count);
+        } else {
+            List<MSTStep> removed = new ArrayList<>(previous - count);
+            for (int i = count; i < previous; i++) {
+                removed.add(get(i));
+            }
+            visibleCount = count;
+            nextRemove(count, removed);
+        }
+        endChange();
+    }
+
+    @Override
+    public MSTStep get(int index) {
+        if (index < 0 || index >= visibleCount) {
+            throw new IndexOutOfBoundsException("Step " + index + " is not visible.");
+        }
+        String edge = "(" + labels[steps.getSource(index)] + ", " + labels[steps.getDestination(index)] + ")";
+        return new MSTStep(edge, steps.getWeight(index), result.isAccepted(index), (int) runningWeights[index]);
+    }
+
+    @Override
+    public int size() {
+        return visibleCount;
+    }
+}
@@ -0,0 +1,180 @@
+package daa.kruskal;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+// Read-only view of a memory-mapped GraphFile. The accessors return buffers over the mapping
+// itself, so nothing is copied onto the heap unless toEdgeList()/toCSRGraph() is called.
+public class MappedGraph {
+    private final int vertices;
+    private final int edgeCount;
+    private final GraphFile.WeightType weightType;
+    private final boolean sortedByWeight;
+    private final ByteBuffer src;
+    private final ByteBuffer dst;
+    private final ByteBuffer weights;
+    private final ByteBuffer csrOffsets;
+    private final ByteBuffer csrNeighbors;
+    private final ByteBuffer csrWeights;
+    private final long checksum;
+
+    MappedGraph(int vertices, int edgeCount, GraphFile.WeightType weightType, boolean sortedByWeight,
+                ByteBuffer src, ByteBuffer dst, ByteBuffer weights,
+                ByteBuffer csrOffsets, ByteBuffer csrNeighbors, ByteBuffer csrWeights, long checksum) {
+        this.vertices = vertices;
+        this.edgeCount = edgeCount;
+        this.weightType = weightType;
+        this.sortedByWeight = sortedByWeight;
+        this.src = src;
+        this.dst = dst;
+        this.weights = weights;
+        this.csrOffsets = csrOffsets;
+        this.csrNeighbors = csrNeighbors;
+        this.csrWeights = csrWeights;
+        this.checksum = checksum;
+    }
+
+    public int getVertices() {
+        return vertices;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public GraphFile.WeightType getWeightType() {
+        return weightType;
+    }
+
+    public boolean isSortedByWeight() {
+        return sortedByWeight;
+    }
+
+    public boolean hasCSR() {
+        return csrOffsets != null;
+    }
+
+    public IntBuffer sources() {
+        return src.duplicate().order(src.order()).asIntBuffer();
+    }
+
+    public IntBuffer destinations() {
+        return dst.duplicate().order(dst.order()).asIntBuffer();
+    }
+
+    public IntBuffer weights() {
+        requireWeightType(GraphFile.WeightType.INT32);
+        return weights.duplicate().order(weights.order()).asIntBuffer();
+    }
+
+    public LongBuffer longWeights() {
+        requireWeightType(GraphFile.WeightType.INT64);
+        return weights.duplicate().order(weights.order()).asLongBuffer();
+    }
+
+    public DoubleBuffer doubleWeights() {
+        requireWeightType(GraphFile.WeightType.FLOAT64);
+        return weights.duplicate().order(weights.order()).asDoubleBuffer();
+    }
+
+    public IntBuffer csrOffsets() {
+        requireCSR();
+        return csrOffsets.duplicate().order(csrOffsets.order()).asIntBuffer();
+    }
+
+    public IntBuffer csrNeighbors() {
+        requireCSR();
+        return csrNeighbors.duplicate().order(csrNeighbors.order()).asIntBuffer();
+    }
+
+    public IntBuffer csrWeights() {
+        requireCSR();
+        return csrWeights.duplicate().order(csrWeights.order()).asIntBuffer();
+    }
+
+    // Recomputes the CRC32C of the payload and compares it with the header
+    public boolean verify() {
+        return GraphFile.checksum(src, dst, weights, csrOffsets, csrNeighbors, csrWeights) == checksum;
+    }
+
+    // Copies the edge section onto the heap; INT32 files only
+    public EdgeList toEdgeList() {
+        int[] s = new int[edgeCount];
+        int[] d = new int[edgeCount];
+        int[] w = new int[edgeCount];
+        sources().get(s);
+        destinations().get(d);
+        weights().get(w);
+        return new EdgeList(s, d, w);
+    }
+
+    // Copies the edge section onto the heap, widening INT32 weights
+    public LongEdgeList toLongEdgeList() {
+        int[] s = new int[edgeCount];
+        int[] d = new int[edgeCount];
+        long[] w = new long[edgeCount];
+        sources().get(s);
+        destinations().get(d);
+        for (int i = 0; i < edgeCount; i++) {
+            w[i] = longWeight(i);
+        }
+        return new LongEdgeList(s, d, w);
+    }
+
+    // Copies the edge section onto the heap, converting integer weights
+    public DoubleEdgeList toDoubleEdgeList() {
+        int[] s = new int[edgeCount];
+        int[] d = new int[edgeCount];
+        double[] w = new double[edgeCount];
+        sources().get(s);
+        destinations().get(d);
+        for (int i = 0; i < edgeCount; i++) {
+            w[i] = doubleWeight(i);
+        }
+        return new DoubleEdgeList(s, d, w);
+    }
+
+    // Weight of edge i for INT32 and INT64 files
+    long longWeight(int i) {
+        switch (weightType) {
+            case INT32:
+                return weights.getInt(4 * i);
+            case INT64:
+                return weights.getLong(8 * i);
+            default:
+                throw new IllegalStateException("Graph file stores " + weightType + " weights, not integers.");
+        }
+    }
+
+    // Weight of edge i for any weight type
+    double doubleWeight(int i) {
+        return weightType == GraphFile.WeightType.FLOAT64 ? weights.getDouble(8 * i) : longWeight(i);
+    }
+
+    public CSRGraph toCSRGraph() {
+        if (!hasCSR()) {
+            return CSRGraph.fromEdges(vertices, toEdgeList());
+        }
+        int[] offsets = new int[vertices + 1];
+        csrOffsets().get(offsets);
+        int[] neighbors = new int[offsets[vertices]];
+        int[] w = new int[offsets[vertices]];
+        csrNeighbors().get(neighbors);
+        csrWeights().get(w);
+        return new CSRGraph(vertices, offsets, neighbors, w);
+    }
+
+    private void requireWeightType(GraphFile.WeightType type) {
+        if (weightType != type) {
+            throw new IllegalStateException("Graph file stores " + weightType + " weights, not " + type + ".");
+        }
+    }
+
+    private void requireCSR() {
+        if (!hasCSR()) {
+            throw new IllegalStateException("Graph file has no CSR section.");
+        }
+    }
+}
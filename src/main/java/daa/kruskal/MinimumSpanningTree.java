@@ -0,0 +1,74 @@
+package daa.kruskal;
+
+// Entry point that picks the MST engine from the shape of the input.
+// Dense graphs go to Prim, whose cost grows with E log_d V instead of the E log E global sort;
+// sparse graphs use Kruskal with the radix sort.
+public class MinimumSpanningTree {
+    // Density |E| / |V|^2 from which Prim is picked; a complete graph has a density of about 0.5.
+    // This is a rough default, not a measured crossover: the point where Prim overtakes Kruskal
+    // depends on the machine and the weight range, so callers that have timed their own graphs
+    // pass their threshold to the overloads below.
+    public static final double DEFAULT_DENSE_THRESHOLD = 0.05;
+
+    private MinimumSpanningTree() {
+    }
+
+    public static MSTAlgorithm choose(int vertices, long edges) {
+        return choose(vertices, edges, DEFAULT_DENSE_THRESHOLD);
+    }
+
+    public static MSTAlgorithm choose(int vertices, long edges, double denseThreshold) {
+        if (!(denseThreshold >= 0)) {
+            throw new IllegalArgumentException("Dense threshold must be a non-negative number.");
+        }
+        if (vertices < 2) {
+            return MSTAlgorithm.KRUSKAL;
+        }
+        double density = edges / ((double) vertices * vertices);
+        return density >= denseThreshold ? MSTAlgorithm.PRIM : MSTAlgorithm.KRUSKAL;
+    }
+
+    public static MSTResult compute(WeightedGraph graph) {
+        return compute(graph, DEFAULT_DENSE_THRESHOLD);
+    }
+
+    public static MSTResult compute(WeightedGraph graph, double denseThreshold) {
+        MSTAlgorithm algorithm = choose(graph.getVertices(), graph.getEdgeCount(), denseThreshold);
+        if (algorithm == MSTAlgorithm.PRIM) {
+            return PrimMST.compute(graph);
+        }
+        return run(graph.getVertices(), graph.getEdgeList(), algorithm);
+    }
+
+    public static MSTResult compute(CSRGraph graph) {
+        return compute(graph, DEFAULT_DENSE_THRESHOLD);
+    }
+
+    public static MSTResult compute(CSRGraph graph, double denseThreshold) {
+        MSTAlgorithm algorithm = choose(graph.getVertices(), graph.getEdgeCount(), denseThreshold);
+        if (algorithm == MSTAlgorithm.PRIM) {
+            return PrimMST.compute(graph);
+        }
+        return run(graph.getVertices(), graph.toEdgeList(), algorithm);
+    }
+
+    // Runs a specific engine on an edge list, which is left untouched whichever engine runs;
+    // PRIM builds a CSR first
+    public static MSTResult compute(int vertices, EdgeList edges, MSTAlgorithm algorithm) {
+        return run(vertices, algorithm == MSTAlgorithm.KRUSKAL ? edges.copy() : edges, algorithm);
+    }
+
+    // Kruskal sorts the list in place, so callers pass one they own
+    private static MSTResult run(int vertices, EdgeList edges, MSTAlgorithm algorithm) {
+        switch (algorithm) {
+            case FILTER_KRUSKAL:
+                return FilterKruskalMST.compute(vertices, edges);
+            case BORUVKA:
+                return BoruvkaMST.compute(vertices, edges, ParallelTasks.defaultParallelism());
+            case PRIM:
+                return PrimMST.compute(CSRGraph.fromEdges(vertices, edges));
+            default:
+                return KruskalMST.compute(vertices, edges, false);
+        }
+    }
+}
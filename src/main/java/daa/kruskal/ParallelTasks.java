@@ -0,0 +1,50 @@
+package daa.kruskal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+// Runs a fixed number of independent tasks on a pool sized to the requested parallelism
+final class ParallelTasks {
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private ParallelTasks() {
+    }
+
+    static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    // Calls body.accept(t) for t in [0, tasks), using up to parallelism threads
+    static void run(int tasks, int parallelism, IntConsumer body) {
+        if (tasks <= 1 || parallelism <= 1) {
+            for (int t = 0; t < tasks; t++) {
+                body.accept(t);
+            }
+            return;
+        }
+        ForkJoinPool pool = pool(Math.min(parallelism, tasks));
+        List<ForkJoinTask<?>> submitted = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final int task = t;
+            submitted.add(pool.submit(() -> body.accept(task)));
+        }
+        for (ForkJoinTask<?> task : submitted) {
+            task.join();
+        }
+    }
+
+    // Pools are cached per size; their workers are daemon threads and idle out on their own
+    static ForkJoinPool pool(int parallelism) {
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    // Start of chunk t when n items are split into the given number of chunks
+    static int chunkStart(int n, int chunks, int t) {
+        return (int) ((long) n * t / chunks);
+    }
+}
@@ -0,0 +1,100 @@
+package daa.kruskal;
+
+import java.util.List;
+
+// Prim's algorithm on adjacency lists or CSR with an indexed d-ary heap. Grows one tree per
+// connected component, so disconnected inputs give a spanning forest like KruskalMST.
+public class PrimMST {
+
+    private PrimMST() {
+    }
+
+    public static MSTResult compute(WeightedGraph graph) {
+        int n = graph.getVertices();
+        Prim prim = new Prim(n, arityFor(n, graph.getEdgeCount()));
+        for (int root = 0; root < n; root++) {
+            if (prim.inTree[root]) {
+                continue;
+            }
+            prim.heap.insert(root, Long.MIN_VALUE);
+            while (!prim.heap.isEmpty()) {
+                int u = prim.visit();
+                List<Edge> neighbors = graph.getNeighbors(u);
+                for (int k = 0; k < neighbors.size(); k++) {
+                    Edge edge = neighbors.get(k);
+                    prim.relax(u, edge.getDestination(), edge.getWeight());
+                }
+            }
+        }
+        return prim.result();
+    }
+
+    public static MSTResult compute(CSRGraph graph) {
+        int n = graph.getVertices();
+        int[] offsets = graph.offsets();
+        int[] neighbors = graph.neighbors();
+        int[] weights = graph.weights();
+        Prim prim = new Prim(n, arityFor(n, graph.getEdgeCount()));
+        for (int root = 0; root < n; root++) {
+            if (prim.inTree[root]) {
+                continue;
+            }
+            prim.heap.insert(root, Long.MIN_VALUE);
+            while (!prim.heap.isEmpty()) {
+                int u = prim.visit();
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    prim.relax(u, neighbors[i], weights[i]);
+                }
+            }
+        }
+        return prim.result();
+    }
+
+    // Johnson's rule: arity ~ E/V balances pollMin against decreaseKey
+    static int arityFor(int vertices, long edges) {
+        return (int) Math.max(2, Math.min(64, edges / Math.max(vertices, 1)));
+    }
+
+    // Shared state of one run; the two public entry points only differ in how they scan neighbours
+    private static class Prim {
+        final IndexedDaryHeap heap;
+        final boolean[] inTree;
+        final int[] parent; // Tree vertex that offers the current best edge
+        final int[] parentWeight;
+        final EdgeList mstEdges;
+        long totalWeight;
+
+        Prim(int vertices, int arity) {
+            heap = new IndexedDaryHeap(vertices, arity);
+            inTree = new boolean[vertices];
+            parent = new int[vertices];
+            parentWeight = new int[vertices];
+            mstEdges = new EdgeList(Math.max(vertices - 1, 1));
+        }
+
+        int visit() {
+            int u = heap.pollMin();
+            inTree[u] = true;
+            if (heap.getKey(u) != Long.MIN_VALUE) {
+                mstEdges.add(Math.min(parent[u], u), Math.max(parent[u], u), parentWeight[u]);
+                totalWeight += parentWeight[u];
+            }
+            return u;
+        }
+
+        void relax(int u, int v, int weight) {
+            if (inTree[v]) {
+                return;
+            }
+            if (!heap.contains(v) || weight < heap.getKey(v)) {
+                heap.insertOrDecrease(v, weight);
+                parent[v] = u;
+                parentWeight[v] = weight;
+            }
+        }
+
+        MSTResult result() {
+            return new MSTResult(mstEdges, totalWeight, null, null);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package daa.kruskal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Reads "source destination weight" lines of whitespace separated integers, vertex ids must be
+// non-negative. Blank lines and lines starting with '#' or '%' are skipped, and so is a UTF-8 byte
+// order mark at the start. Parses straight from a byte buffer, so no String is allocated per line.
+public class TextEdgeReader implements EdgeReader {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long line = 1; // Line of the file the next byte is on
+    private boolean started; // Whether a leading byte order mark was checked for
+
+    public TextEdgeReader(Path file) throws IOException {
+        this(Files.newInputStream(file));
+    }
+
+    public TextEdgeReader(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read(EdgeList chunk, int maxEdges) throws IOException {
+        if (!started) {
+            started = true;
+            skipByteOrderMark();
+        }
+        int count = 0;
+        while (count < maxEdges) {
+            int c = skipBlankAndComments();
+            if (c < 0) {
+                break;
+            }
+            int u = readInt();
+            int v = readInt();
+            int w = readInt();
+            if (u < 0 || v < 0) {
+                throw new IOException("Negative vertex id on line " + line + ".");
+            }
+            skipLine();
+            chunk.add(u, v, w);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // Returns the first byte of the next data line without consuming it, or -1 at the end
+    private int skipBlankAndComments() throws IOException {
+        while (true) {
+            int c = peek();
+            if (c < 0) {
+                return -1;
+            }
+            if (c == '#' || c == '%') {
+                skipLine();
+            } else if (c <= ' ') {
+                position++;
+                if (c == '\n') {
+                    line++;
+                }
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (peek() != 0xEF) {
+            return;
+        }
+        position++;
+        for (int expected : new int[]{0xBB, 0xBF}) {
+            if (peek() != expected) {
+                throw new IOException("Malformed byte order mark on line 1.");
+            }
+            position++;
+        }
+    }
+
+    private int readInt() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\t') {
+            position++;
+            c = peek();
+        }
+        boolean negative = c == '-';
+        if (negative) {
+            position++;
+            c = peek();
+        }
+        if (c < '0' || c > '9') {
+            throw new IOException("Expected an integer on line " + line + ".");
+        }
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw new IOException("Integer out of range on line " + line + ".");
+            }
+            position++;
+            c = peek();
+        }
+        if (!negative && value > Integer.MAX_VALUE) {
+            throw new IOException("Integer out of range on line " + line + ".");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        while ((c = peek()) >= 0) {
+            position++;
+            if (c == '\n') {
+                line++;
+                return;
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position] & 0xFF;
+    }
+}
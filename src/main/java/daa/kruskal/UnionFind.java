@@ -2,22 +2,34 @@ package daa.kruskal;
 
 public class UnionFind {
     private int[] parent;
-    private int[] rank;
+    private int[] size; // Component size, only meaningful at roots
+    private int count; // Number of disjoint components
 
     public UnionFind(int size) {
         parent = new int[size];
-        rank = new int[size];
+        this.size = new int[size];
         for (int i = 0; i < size; i++) {
             parent[i] = i; // Each vertex is its own parent initially
-            rank[i] = 0;
+            this.size[i] = 1;
         }
+        count = size;
     }
 
     public int find(int x) {
-        if (parent[x] != x) {
-            parent[x] = find(parent[x]); // Path compression
+        // Iterative path halving: every other node on the path skips to its grandparent
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
         }
-        return parent[x];
+        return x;
+    }
+
+    // Read-only find without path halving, safe for concurrent readers while no union runs
+    int root(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
     }
 
     public boolean union(int x, int y) {
@@ -26,14 +38,57 @@ public class UnionFind {
         if (rootX == rootY) {
             return false; // Cycle detected
         }
-        if (rank[rootX] < rank[rootY]) {
-            parent[rootX] = rootY;
-        } else if (rank[rootX] > rank[rootY]) {
-            parent[rootY] = rootX;
-        } else {
-            parent[rootY] = rootX;
-            rank[rootX]++;
+        // Union by size: hang the smaller tree under the larger one
+        if (size[rootX] < size[rootY]) {
+            int tmp = rootX;
+            rootX = rootY;
+            rootY = tmp;
         }
+        parent[rootY] = rootX;
+        size[rootX] += size[rootY];
+        count--;
         return true;
     }
-}
\ No newline at end of file
+
+    // Unions a[i] with b[i] for every i, returns how many unions merged two components
+    public int union(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Arrays must have the same length.");
+        }
+        int merged = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (union(a[i], b[i])) {
+                merged++;
+            }
+        }
+        return merged;
+    }
+
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    public boolean[] connected(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Arrays must have the same length.");
+        }
+        boolean[] result = new boolean[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = find(a[i]) == find(b[i]);
+        }
+        return result;
+    }
+
+    // Size of the component containing x
+    public int componentSize(int x) {
+        return size[find(x)];
+    }
+
+    public int getComponentCount() {
+        return count;
+    }
+
+    public int getSize() {
+        return parent.length;
+    }
+}
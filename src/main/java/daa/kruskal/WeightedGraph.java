@@ -4,7 +4,9 @@ import java.util.*;
 
 public class WeightedGraph {
     private int vertices;
-    private List<List<Edge>> adjacent;
+    private List<ArrayList<Edge>> adjacent;
+    private DynamicMST trackedMST; // Optional index kept in sync by addEdge/removeEdge
+    private EdgeIndex edgeIndex; // Optional pair index, see enableEdgeIndex()
 
     public WeightedGraph(int vertices) {
         this.vertices = vertices;
@@ -14,14 +16,264 @@ public class WeightedGraph {
         }
     }
 
+    private WeightedGraph(int vertices, List<ArrayList<Edge>> adjacent) {
+        this.vertices = vertices;
+        this.adjacent = adjacent;
+    }
+
+    // Builds a graph from an edge list with every adjacency list allocated once at its final
+    // size: degrees are counted first, then the lists are filled straight from the edge list.
+    // Neighbour order is the same as adding the edges one by one with addEdge.
+    public static WeightedGraph fromEdges(int vertices, EdgeList edges) {
+        return fromEdges(vertices, edges, 1);
+    }
+
+    // As above, on up to parallelism threads, in three parallel passes over the edges. Each
+    // thread counts the half-edges of its slice per range of vertices, a prefix sum over those
+    // counts gives every slice its write position, and the slices scatter their half-edges so
+    // each range holds its own in edge order. Each range then sizes and fills its lists alone.
+    // Every array is read a constant number of times whatever the thread count, and the
+    // neighbour order is the same as in the sequential build.
+    public static WeightedGraph fromEdges(int vertices, EdgeList edges, int parallelism) {
+        int count = edges.size();
+        int[] source = edges.sources();
+        int[] destination = edges.destinations();
+        int[] weight = edges.weights();
+        checkEdges(vertices, source, destination, count);
+        if (2L * count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for one graph: " + count + ".");
+        }
+        List<ArrayList<Edge>> adjacent = new ArrayList<>(Collections.nCopies(vertices, null));
+        int ranges = Math.min(parallelism * 4, vertices / 1024);
+        if (parallelism <= 1 || ranges <= 1) {
+            int[] degree = new int[vertices];
+            for (int i = 0; i < count; i++) {
+                degree[source[i]]++;
+                degree[destination[i]]++;
+            }
+            for (int v = 0; v < vertices; v++) {
+                adjacent.set(v, new ArrayList<>(degree[v]));
+            }
+            for (int i = 0; i < count; i++) {
+                adjacent.get(source[i]).add(new Edge(destination[i], weight[i]));
+                adjacent.get(destination[i]).add(new Edge(source[i], weight[i]));
+            }
+            return new WeightedGraph(vertices, adjacent);
+        }
+
+        int rangeSize = (vertices + ranges - 1) / ranges;
+        int rangeCount = (vertices + rangeSize - 1) / rangeSize;
+        int slices = parallelism;
+        int[][] next = new int[slices][rangeCount]; // Half-edges per range, then write positions
+        ParallelTasks.run(slices, parallelism, t -> {
+            int[] perRange = next[t];
+            for (int i = ParallelTasks.chunkStart(count, slices, t); i < ParallelTasks.chunkStart(count, slices, t + 1); i++) {
+                perRange[source[i] / rangeSize]++;
+                perRange[destination[i] / rangeSize]++;
+            }
+        });
+        // Range-major, slice-minor prefix sum keeps every range's half-edges in edge order
+        int[] rangeStart = new int[rangeCount + 1];
+        int sum = 0;
+        for (int r = 0; r < rangeCount; r++) {
+            rangeStart[r] = sum;
+            for (int t = 0; t < slices; t++) {
+                int c = next[t][r];
+                next[t][r] = sum;
+                sum += c;
+            }
+        }
+        rangeStart[rangeCount] = sum;
+
+        int[] halfEdges = new int[sum]; // Edge index << 1, plus 1 for the destination's entry
+        ParallelTasks.run(slices, parallelism, t -> {
+            int[] at = next[t];
+            for (int i = ParallelTasks.chunkStart(count, slices, t); i < ParallelTasks.chunkStart(count, slices, t + 1); i++) {
+                halfEdges[at[source[i] / rangeSize]++] = i << 1;
+                halfEdges[at[destination[i] / rangeSize]++] = (i << 1) | 1;
+            }
+        });
+        ParallelTasks.run(rangeCount, parallelism, r -> {
+            int first = r * rangeSize;
+            int end = Math.min(vertices, first + rangeSize);
+            int[] degree = new int[end - first];
+            for (int k = rangeStart[r]; k < rangeStart[r + 1]; k++) {
+                int i = halfEdges[k] >>> 1;
+                degree[((halfEdges[k] & 1) == 0 ? source[i] : destination[i]) - first]++;
+            }
+            for (int v = first; v < end; v++) {
+                adjacent.set(v, new ArrayList<>(degree[v - first]));
+            }
+            for (int k = rangeStart[r]; k < rangeStart[r + 1]; k++) {
+                int i = halfEdges[k] >>> 1;
+                if ((halfEdges[k] & 1) == 0) {
+                    adjacent.get(source[i]).add(new Edge(destination[i], weight[i]));
+                } else {
+                    adjacent.get(destination[i]).add(new Edge(source[i], weight[i]));
+                }
+            }
+        });
+        return new WeightedGraph(vertices, adjacent);
+    }
+
+    public void addEdges(EdgeList edges) {
+        addEdges(edges.sources(), edges.destinations(), edges.weights(), edges.size());
+    }
+
+    // Appends many edges at once. Degrees are counted first, so every adjacency list grows at
+    // most once instead of repeatedly while the edges arrive.
+    public void addEdges(int[] source, int[] destination, int[] weight) {
+        if (source.length != destination.length || source.length != weight.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length.");
+        }
+        addEdges(source, destination, weight, source.length);
+    }
+
+    private void addEdges(int[] source, int[] destination, int[] weight, int count) {
+        checkEdges(vertices, source, destination, count);
+        int[] degree = new int[vertices];
+        for (int i = 0; i < count; i++) {
+            degree[source[i]]++;
+            degree[destination[i]]++;
+        }
+        for (int u = 0; u < vertices; u++) {
+            if (degree[u] > 0) {
+                adjacent.get(u).ensureCapacity(adjacent.get(u).size() + degree[u]);
+            }
+        }
+        if (edgeIndex != null || trackedMST != null) {
+            // The indexes are maintained edge by edge
+            for (int i = 0; i < count; i++) {
+                addEdge(source[i], destination[i], weight[i]);
+            }
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            adjacent.get(source[i]).add(new Edge(destination[i], weight[i]));
+            adjacent.get(destination[i]).add(new Edge(source[i], weight[i]));
+        }
+    }
+
+    private static void checkEdges(int vertices, int[] source, int[] destination, int count) {
+        for (int i = 0; i < count; i++) {
+            if (source[i] < 0 || source[i] >= vertices || destination[i] < 0 || destination[i] >= vertices) {
+                throw new IllegalArgumentException("Edge " + i + " has a vertex out of range.");
+            }
+        }
+    }
+
     public void addEdge(int source, int destination, int weight) {
         adjacent.get(source).add(new Edge(destination, weight));
         adjacent.get(destination).add(new Edge(source, weight));
+        if (edgeIndex != null) {
+            edgeIndex.added(source, destination, weight,
+                    adjacent.get(source).size() - 1, adjacent.get(destination).size() - 1);
+        }
+        // Self-loops never change the MST, and of parallel edges only the lightest can
+        if (trackedMST != null && source != destination) {
+            if (!trackedMST.hasEdge(source, destination)) {
+                trackedMST.addEdge(source, destination, weight);
+            } else if (weight < trackedMST.getWeight(source, destination)) {
+                trackedMST.removeEdge(source, destination);
+                trackedMST.addEdge(source, destination, weight);
+            }
+        }
     }
 
     public void removeEdge(int source, int destination) {
-        adjacent.get(source).removeIf(edge -> edge.getDestination() == destination);
-        adjacent.get(destination).removeIf(edge -> edge.getDestination() == source);
+        if (edgeIndex != null) {
+            edgeIndex.remove(source, destination, adjacent);
+        } else {
+            adjacent.get(source).removeIf(edge -> edge.getDestination() == destination);
+            adjacent.get(destination).removeIf(edge -> edge.getDestination() == source);
+        }
+        if (trackedMST != null) {
+            trackedMST.removeEdge(source, destination);
+        }
+    }
+
+    // Starts maintaining a hash index over (min, max) pairs, so hasEdge, getWeight and
+    // removeEdge run in expected O(1) instead of scanning adjacency lists. With the index,
+    // removeEdge swaps the last neighbour into the freed position, so neighbour order changes.
+    public void enableEdgeIndex() {
+        if (edgeIndex == null) {
+            edgeIndex = new EdgeIndex(adjacent);
+        }
+    }
+
+    public boolean hasEdgeIndex() {
+        return edgeIndex != null;
+    }
+
+    public boolean hasEdge(int source, int destination) {
+        if (edgeIndex != null) {
+            return edgeIndex.contains(source, destination);
+        }
+        // Without the index, scan the shorter of the two lists
+        if (adjacent.get(destination).size() < adjacent.get(source).size()) {
+            int swap = source;
+            source = destination;
+            destination = swap;
+        }
+        for (Edge edge : adjacent.get(source)) {
+            if (edge.getDestination() == destination) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Lightest weight among the edges between source and destination
+    public int getWeight(int source, int destination) {
+        if (edgeIndex != null) {
+            return edgeIndex.weight(source, destination);
+        }
+        if (adjacent.get(destination).size() < adjacent.get(source).size()) {
+            int swap = source;
+            source = destination;
+            destination = swap;
+        }
+        int lightest = Integer.MAX_VALUE;
+        boolean found = false;
+        for (Edge edge : adjacent.get(source)) {
+            if (edge.getDestination() == destination) {
+                lightest = Math.min(lightest, edge.getWeight());
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new IllegalArgumentException("No edge between " + source + " and " + destination + ".");
+        }
+        return lightest;
+    }
+
+    // Starts maintaining a DynamicMST alongside the adjacency lists, so connectivity and MST
+    // weight queries stay current across addEdge/removeEdge without recomputation
+    public DynamicMST trackMST() {
+        if (trackedMST == null) {
+            trackedMST = DynamicMST.of(this);
+        }
+        return trackedMST;
+    }
+
+    // The tracked MST, or null if trackMST() was never called
+    public DynamicMST getTrackedMST() {
+        return trackedMST;
+    }
+
+    // O(log V) with a tracked MST; otherwise a one-off union-find pass over the edges that
+    // leaves the graph as it is
+    public boolean connected(int source, int destination) {
+        if (trackedMST != null) {
+            return trackedMST.connected(source, destination);
+        }
+        UnionFind uf = new UnionFind(vertices);
+        for (int u = 0; u < vertices; u++) {
+            for (Edge edge : adjacent.get(u)) {
+                uf.union(u, edge.getDestination());
+            }
+        }
+        return uf.connected(source, destination);
     }
 
     public List<Edge> getNeighbors(int vertex) {
@@ -32,6 +284,15 @@ public class WeightedGraph {
         return vertices;
     }
 
+    // Number of undirected edges, counting parallel edges separately
+    public long getEdgeCount() {
+        long halfEdges = 0;
+        for (int u = 0; u < vertices; u++) {
+            halfEdges += adjacent.get(u).size();
+        }
+        return halfEdges / 2;
+    }
+
     public void printGraph() {
         for (int i = 0; i < vertices; i++) {
             System.out.print("Vertex " + i + ": ");
@@ -44,17 +305,35 @@ public class WeightedGraph {
 
     // New method to get all unique edges for Kruskal's algorithm
     public List<EdgeInfo> getAllEdges() {
-        List<EdgeInfo> edges = new ArrayList<>();
-        Set<String> seen = new HashSet<>();
+        return getEdgeList().toEdgeInfoList();
+    }
+
+    // Unique edges as a primitive list, each emitted once from its lower endpoint.
+    // Parallel edges are collapsed into one edge carrying the lightest weight.
+    public EdgeList getEdgeList() {
+        int halfEdges = 0;
+        for (int u = 0; u < vertices; u++) {
+            halfEdges += adjacent.get(u).size();
+        }
+        EdgeList edges = new EdgeList(halfEdges / 2 + 1);
+        int[] seenFrom = new int[vertices]; // seenFrom[v] == u + 1 once (u, v) has been emitted
+        int[] emittedAt = new int[vertices]; // Position of that (u, v) edge in the list
         for (int u = 0; u < vertices; u++) {
             for (Edge edge : adjacent.get(u)) {
                 int v = edge.getDestination();
-                // Use a unique key to avoid duplicates (u-v and v-u are the same)
-                String key = Math.min(u, v) + "-" + Math.max(u, v);
-                if (!seen.contains(key)) {
-                    seen.add(key);
-                    edges.add(new EdgeInfo(u, v, edge.getWeight()));
+                if (v < u) {
+                    continue; // Emitted from v already
+                }
+                if (seenFrom[v] == u + 1) {
+                    // Parallel edge: keep the lightest weight
+                    if (edge.getWeight() < edges.getWeight(emittedAt[v])) {
+                        edges.setWeight(emittedAt[v], edge.getWeight());
+                    }
+                    continue;
                 }
+                seenFrom[v] = u + 1;
+                emittedAt[v] = edges.size();
+                edges.add(u, v, edge.getWeight());
             }
         }
         return edges;
@@ -66,10 +345,24 @@ public class WeightedGraph {
         int destination;
         int weight;
 
-        EdgeInfo(int source, int destination, int weight) {
+        public EdgeInfo(int source, int destination, int weight) {
             this.source = source;
             this.destination = destination;
             this.weight = weight;
         }
+
+        public int getSource() {
+            return source;
+        }
+        public int getDestination() {
+            return destination;
+        }
+        public int getWeight() {
+            return weight;
+        }
+        @Override
+        public String toString() {
+            return "EdgeInfo [source=" + source + ", destination=" + destination + ", weight=" + weight + "]";
+        }
     }
 }
@@ -14,5 +14,9 @@
             graph.addEdge(3, 4, 4); // Edge from 3 to 4 with weight 4
 
             graph.printGraph();
+
+            // Run Kruskal without the UI
+            MSTResult mst = KruskalMST.compute(graph);
+            System.out.println(mst);
         }
     }
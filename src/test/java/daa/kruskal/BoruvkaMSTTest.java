@@ -0,0 +1,45 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class BoruvkaMSTTest {
+
+    @Test
+    void matchesKruskalOnRandomGraphs() {
+        for (int[] shape : TestGraphs.SHAPES) {
+            for (int seed = 0; seed < 5; seed++) {
+                EdgeList edges = TestGraphs.randomEdges(new Random(seed), shape[0], shape[1], shape[2]);
+                MSTResult expected = KruskalMST.compute(shape[0], edges.copy(), false);
+                for (int parallelism : new int[]{1, 4}) {
+                    TestGraphs.assertSameTree(expected, BoruvkaMST.compute(shape[0], edges, parallelism));
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesKruskalOnGraphRepresentations() {
+        Random random = new Random(3);
+        EdgeList edges = TestGraphs.randomEdges(random, 400, 4000, 50);
+        WeightedGraph graph = new WeightedGraph(400);
+        for (int i = 0; i < edges.size(); i++) {
+            graph.addEdge(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+        }
+        MSTResult expected = KruskalMST.compute(graph);
+        TestGraphs.assertSameTree(expected, BoruvkaMST.compute(graph));
+        TestGraphs.assertSameTree(expected, BoruvkaMST.compute(CSRGraph.of(graph), 4));
+    }
+
+    @Test
+    void leavesInputUntouched() {
+        EdgeList edges = TestGraphs.randomEdges(new Random(7), 3000, 100000, 1 << 20);
+        EdgeList before = edges.copy();
+        BoruvkaMST.compute(3000, edges, 4);
+        assertArrayEquals(before.weights(), edges.weights());
+        assertArrayEquals(before.sources(), edges.sources());
+    }
+}
@@ -0,0 +1,81 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// CSR built from an edge list against the adjacency lists of a WeightedGraph fed the same
+// edges with addEdge, which stores them in the same order
+class CSRGraphTest {
+
+    @Test
+    void fromEdgesMatchesAdjacencyLists() {
+        // {vertices, edges, weight range}: isolated vertices, self-loops and parallel edges
+        int[][] shapes = {{1, 0, 1}, {1, 3, 2}, {5, 0, 1}, {6, 20, 3}, {100, 60, 10}, {2000, 30000, 1000}};
+        for (int[] shape : shapes) {
+            Random random = new Random(shape[1]);
+            EdgeList edges = new EdgeList();
+            WeightedGraph graph = new WeightedGraph(shape[0]);
+            for (int i = 0; i < shape[1]; i++) {
+                int u = random.nextInt(shape[0]);
+                int v = i % 7 == 0 ? u : random.nextInt(shape[0]);
+                int w = random.nextInt(shape[2]) - shape[2] / 2;
+                edges.add(u, v, w);
+                graph.addEdge(u, v, w);
+            }
+            CSRGraph csr = CSRGraph.fromEdges(shape[0], edges);
+            assertSameAdjacency(graph, csr);
+            assertSameAdjacency(graph, CSRGraph.of(graph));
+            assertEquals(shape[1], csr.getEdgeCount());
+            assertEquals(0, csr.start(0));
+            assertEquals(2 * shape[1], csr.end(shape[0] - 1));
+
+            // Back to lists: the same neighbours, though added in vertex order
+            WeightedGraph rebuilt = csr.toWeightedGraph();
+            for (int u = 0; u < shape[0]; u++) {
+                assertEquals(sorted(graph.getNeighbors(u)), sorted(rebuilt.getNeighbors(u)), "vertex " + u);
+            }
+        }
+    }
+
+    @Test
+    void isolatedVerticesHaveEmptySlices() {
+        EdgeList edges = new EdgeList();
+        edges.add(1, 3, 5);
+        edges.add(3, 3, 2);
+        CSRGraph csr = CSRGraph.fromEdges(5, edges);
+        assertEquals(0, csr.degree(0));
+        assertEquals(1, csr.degree(1));
+        assertEquals(0, csr.degree(2));
+        assertEquals(3, csr.degree(3)); // Its self-loop counts twice, as in the adjacency lists
+        assertEquals(0, csr.degree(4));
+        assertEquals(csr.start(2), csr.end(2));
+        assertEquals(4, csr.offsets()[5]);
+    }
+
+    private static void assertSameAdjacency(WeightedGraph expected, CSRGraph actual) {
+        assertEquals(expected.getVertices(), actual.getVertices());
+        for (int u = 0; u < expected.getVertices(); u++) {
+            List<Edge> neighbours = expected.getNeighbors(u);
+            assertEquals(neighbours.size(), actual.degree(u), "degree of " + u);
+            for (int k = 0; k < neighbours.size(); k++) {
+                int i = actual.start(u) + k;
+                assertEquals(neighbours.get(k).getDestination(), actual.neighbor(i), "neighbour " + k + " of " + u);
+                assertEquals(neighbours.get(k).getWeight(), actual.weight(i), "weight " + k + " of " + u);
+            }
+        }
+    }
+
+    private static List<Long> sorted(List<Edge> edges) {
+        List<Long> keys = new ArrayList<>();
+        for (Edge edge : edges) {
+            keys.add(((long) edge.getDestination() << 32) | (edge.getWeight() & 0xffffffffL));
+        }
+        keys.sort(null);
+        return keys;
+    }
+}
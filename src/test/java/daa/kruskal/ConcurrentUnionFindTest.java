@@ -0,0 +1,79 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Many threads union the same random pairs at once; the partition must match a sequential
+// UnionFind fed the same pairs, and every merge must be reported by exactly one union call
+class ConcurrentUnionFindTest {
+
+    @Test
+    void matchesSequentialUnionFindUnderContention() throws InterruptedException {
+        for (int threads : new int[]{1, 2, 4, 8, 16}) {
+            check(200_000, 800_000, threads, 11 + threads);
+        }
+    }
+
+    @Test
+    void matchesSequentialUnionFindOnFewElements() throws InterruptedException {
+        // Nearly every union races for the same few roots
+        for (int threads : new int[]{4, 16}) {
+            check(64, 200_000, threads, 5);
+        }
+    }
+
+    private static void check(int elements, int operations, int threads, long seed) throws InterruptedException {
+        Random random = new Random(seed);
+        int[] a = new int[operations];
+        int[] b = new int[operations];
+        for (int i = 0; i < operations; i++) {
+            a[i] = random.nextInt(elements);
+            b[i] = random.nextInt(elements);
+        }
+        UnionFind expected = new UnionFind(elements);
+        expected.union(a, b);
+
+        ConcurrentUnionFind actual = new ConcurrentUnionFind(elements);
+        int[] merges = new int[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int from = ParallelTasks.chunkStart(operations, threads, t);
+            int to = ParallelTasks.chunkStart(operations, threads, t + 1);
+            int index = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = from; i < to; i++) {
+                    if (actual.union(a[i], b[i])) {
+                        merges[index]++;
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int totalMerges = 0;
+        for (int m : merges) {
+            totalMerges += m;
+        }
+        assertEquals(expected.getComponentCount(), actual.getComponentCount(), "component count");
+        assertEquals(elements - expected.getComponentCount(), totalMerges, "successful unions");
+        for (int x = 0; x < elements; x++) {
+            assertTrue(actual.connected(x, expected.find(x)), "element " + x + " is in the wrong component");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Random insert/delete sequences, checked after every edit against an MST recomputed from scratch
+class DynamicMSTTest {
+
+    @Test
+    void matchesRecomputedForestUnderRandomEdits() {
+        // {vertices, edits, weight range, percent of inserts}
+        int[][] runs = {
+                {2, 200, 3, 50},
+                {12, 2000, 4, 55},
+                {60, 3000, 20, 50},
+                {150, 4000, 1000, 70},
+                {300, 3000, 5, 40},
+        };
+        for (int[] run : runs) {
+            for (int seed = 0; seed < 3; seed++) {
+                check(run[0], run[1], run[2], run[3], new Random(seed));
+            }
+        }
+    }
+
+    @Test
+    void rejectsSelfLoopsAndDuplicatePairs() {
+        DynamicMST mst = new DynamicMST(3);
+        mst.addEdge(0, 1, 5);
+        assertThrows(IllegalArgumentException.class, () -> mst.addEdge(1, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> mst.addEdge(1, 0, 2));
+        assertFalse(mst.removeEdge(1, 2));
+    }
+
+    private static void check(int vertices, int edits, int weightRange, int insertPercent, Random random) {
+        DynamicMST mst = new DynamicMST(vertices);
+        List<int[]> live = new ArrayList<>();
+        long maxPairs = (long) vertices * (vertices - 1) / 2;
+        for (int step = 0; step < edits; step++) {
+            boolean insert = live.isEmpty() || (live.size() < maxPairs && random.nextInt(100) < insertPercent);
+            if (insert) {
+                int u = random.nextInt(vertices);
+                int v = random.nextInt(vertices);
+                if (u == v || mst.hasEdge(u, v)) {
+                    continue;
+                }
+                int w = random.nextInt(weightRange) - weightRange / 2;
+                mst.addEdge(u, v, w);
+                live.add(new int[]{u, v, w});
+            } else {
+                int i = random.nextInt(live.size());
+                int[] edge = live.get(i);
+                live.set(i, live.get(live.size() - 1));
+                live.remove(live.size() - 1);
+                assertTrue(mst.removeEdge(edge[1], edge[0]));
+            }
+            assertMatches(vertices, live, mst, random);
+        }
+    }
+
+    private static void assertMatches(int vertices, List<int[]> live, DynamicMST mst, Random random) {
+        EdgeList edges = new EdgeList(Math.max(live.size(), 1));
+        for (int[] edge : live) {
+            edges.add(edge[0], edge[1], edge[2]);
+        }
+        MSTResult expected = KruskalMST.compute(vertices, edges, false);
+        assertEquals(expected.getTotalWeight(), mst.getTotalWeight(), "total weight");
+        assertEquals(expected.getEdgeCount(), mst.getTreeEdgeCount(), "tree edges");
+        assertEquals(vertices - expected.getEdgeCount(), mst.getComponentCount(), "components");
+        assertEquals(live.size(), mst.getEdgeCount(), "edges");
+
+        UnionFind uf = new UnionFind(vertices);
+        EdgeList tree = mst.getTreeEdges();
+        long weight = 0;
+        for (int i = 0; i < tree.size(); i++) {
+            assertTrue(uf.union(tree.getSource(i), tree.getDestination(i)), "tree edges form a cycle");
+            assertTrue(mst.isTreeEdge(tree.getSource(i), tree.getDestination(i)));
+            weight += tree.getWeight(i);
+        }
+        assertEquals(mst.getTotalWeight(), weight, "weight of getTreeEdges()");
+        for (int q = 0; q < 5; q++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            assertEquals(uf.connected(u, v), mst.connected(u, v), "connected(" + u + ", " + v + ")");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// An indexed and an unindexed WeightedGraph receive the same random edits, parallel edges and
+// self-loops included, and must answer hasEdge and getWeight alike and hold the same
+// neighbours (the index may reorder them)
+class EdgeIndexTest {
+
+    @Test
+    void indexedGraphMatchesUnindexed() {
+        // {vertices, edits, weight range, percent of adds}
+        int[][] runs = {
+                {1, 100, 3, 60},
+                {6, 2000, 4, 60},
+                {40, 5000, 20, 70},
+                {300, 5000, 1000, 80},
+        };
+        for (int[] run : runs) {
+            for (int seed = 0; seed < 3; seed++) {
+                check(run[0], run[1], run[2], run[3], new Random(seed));
+            }
+        }
+    }
+
+    @Test
+    void indexBuiltFromExistingEdges() {
+        Random random = new Random(11);
+        int vertices = 50;
+        WeightedGraph indexed = new WeightedGraph(vertices);
+        WeightedGraph plain = new WeightedGraph(vertices);
+        for (int i = 0; i < 400; i++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(u + 1); // Every pair added from both ends, self-loops too
+            int w = random.nextInt(30);
+            if (random.nextBoolean()) {
+                indexed.addEdge(u, v, w);
+                plain.addEdge(u, v, w);
+            } else {
+                indexed.addEdge(v, u, w);
+                plain.addEdge(v, u, w);
+            }
+        }
+        indexed.enableEdgeIndex();
+        assertSameGraph(plain, indexed);
+        for (int i = 0; i < 300; i++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            indexed.removeEdge(u, v);
+            plain.removeEdge(u, v);
+            assertSameGraph(plain, indexed);
+        }
+    }
+
+    @Test
+    void missingPairHasNoWeight() {
+        WeightedGraph graph = new WeightedGraph(3);
+        graph.enableEdgeIndex();
+        graph.addEdge(0, 1, 2);
+        graph.removeEdge(0, 1);
+        assertFalse(graph.hasEdge(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> graph.getWeight(0, 1));
+        graph.addEdge(2, 2, 5);
+        assertTrue(graph.hasEdge(2, 2));
+        assertEquals(5, graph.getWeight(2, 2));
+    }
+
+    private static void check(int vertices, int edits, int weightRange, int addPercent, Random random) {
+        WeightedGraph indexed = new WeightedGraph(vertices);
+        indexed.enableEdgeIndex();
+        WeightedGraph plain = new WeightedGraph(vertices);
+        for (int step = 0; step < edits; step++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            if (random.nextInt(100) < addPercent) {
+                int w = random.nextInt(weightRange) - weightRange / 2;
+                indexed.addEdge(u, v, w);
+                plain.addEdge(u, v, w);
+            } else {
+                indexed.removeEdge(u, v);
+                plain.removeEdge(u, v);
+            }
+            assertEquals(plain.hasEdge(u, v), indexed.hasEdge(v, u));
+            if (vertices <= 6 || step % 100 == 0) {
+                assertSameGraph(plain, indexed);
+            }
+        }
+        assertSameGraph(plain, indexed);
+    }
+
+    private static void assertSameGraph(WeightedGraph expected, WeightedGraph actual) {
+        int vertices = expected.getVertices();
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        for (int u = 0; u < vertices; u++) {
+            assertEquals(sortedNeighbours(expected, u), sortedNeighbours(actual, u), "vertex " + u);
+            for (int v = u; v < vertices; v++) {
+                boolean present = expected.hasEdge(u, v);
+                assertEquals(present, actual.hasEdge(u, v));
+                assertEquals(present, actual.hasEdge(v, u));
+                if (present) {
+                    assertEquals(expected.getWeight(u, v), actual.getWeight(v, u));
+                }
+            }
+        }
+    }
+
+    private static List<Long> sortedNeighbours(WeightedGraph graph, int u) {
+        List<Long> neighbours = new ArrayList<>();
+        for (Edge edge : graph.getNeighbors(u)) {
+            neighbours.add(((long) edge.getDestination() << 32) | (edge.getWeight() & 0xffffffffL));
+        }
+        neighbours.sort(null);
+        return neighbours;
+    }
+}
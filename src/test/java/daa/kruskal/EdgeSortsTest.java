@@ -0,0 +1,120 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+// Every sort against a stable reference that orders indices by weight, then by index. The MST
+// tests cannot catch a broken sort, because their Kruskal oracle sorts with these same functions.
+class EdgeSortsTest {
+    private static final int[] SIZES = {0, 1, 2, 31, 32, 33, 255, 256, 257, 1000, 5000, 70000};
+
+    @Test
+    void intOrdersMatchReference() {
+        Random random = new Random(1);
+        for (int n : SIZES) {
+            for (int[] weights : intInputs(random, n)) {
+                int[] expected = reference(weights, n);
+                assertArrayEquals(expected, EdgeSorts.stableOrder(weights, n), "stableOrder, n = " + n);
+                assertArrayEquals(expected, EdgeSorts.packedOrder(weights, n), "packedOrder, n = " + n);
+                if (n == 0) {
+                    continue;
+                }
+                int min = Arrays.stream(weights, 0, n).min().getAsInt();
+                long range = (long) Arrays.stream(weights, 0, n).max().getAsInt() - min;
+                assertArrayEquals(expected, EdgeSorts.radixOrder(weights, n, min, range), "radixOrder, n = " + n);
+                if (range < 1 << 20) {
+                    assertArrayEquals(expected, EdgeSorts.countingOrder(weights, n, min, (int) range + 1),
+                            "countingOrder, n = " + n);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sortsOnlyThePrefix() {
+        int[] weights = {5, 3, 9, 1, -7, -8};
+        assertArrayEquals(new int[]{3, 1, 0, 2}, EdgeSorts.stableOrder(weights, 4));
+        assertArrayEquals(new int[]{3, 1, 0, 2}, EdgeSorts.radixOrder(weights, 4, 1, 8));
+        assertArrayEquals(new int[]{3, 1, 0, 2}, EdgeSorts.countingOrder(weights, 4, 1, 9));
+    }
+
+    @Test
+    void longAndDoubleOrdersMatchReference() {
+        Random random = new Random(2);
+        for (int n : SIZES) {
+            long[] longs = new long[n];
+            double[] doubles = new double[n];
+            for (int i = 0; i < n; i++) {
+                longs[i] = switch (i % 4) {
+                    case 0 -> random.nextLong();
+                    case 1 -> random.nextInt(5); // Ties
+                    case 2 -> i % 8 == 2 ? Long.MIN_VALUE : Long.MAX_VALUE;
+                    default -> -random.nextInt(5);
+                };
+                doubles[i] = switch (i % 5) {
+                    case 0 -> random.nextGaussian();
+                    case 1 -> random.nextInt(3) - 1; // Ties, with 0.0 and -1.0
+                    case 2 -> -0.0;
+                    case 3 -> i % 10 == 3 ? Double.NEGATIVE_INFINITY : Double.MAX_VALUE;
+                    default -> random.nextDouble() * 1e-300;
+                };
+            }
+            int[] longExpected = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.comparingLong(i -> longs[i])).mapToInt(Integer::intValue).toArray();
+            int[] doubleExpected = IntStream.range(0, n).boxed()
+                    .sorted((a, b) -> Double.compare(doubles[a], doubles[b])).mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(longExpected, EdgeSorts.stableOrder(longs, n), "long, n = " + n);
+            assertArrayEquals(doubleExpected, EdgeSorts.stableOrder(doubles, n), "double, n = " + n);
+        }
+    }
+
+    @Test
+    void parallelOrderMatchesSequential() {
+        Random random = new Random(3);
+        // Below and above the cutoff of 256 edges per thread for every thread count
+        int[] sizes = {0, 1, 255, 511, 512, 1023, 1024, 4095, 4096, 4097, 100_000};
+        for (int n : sizes) {
+            for (int[] weights : intInputs(random, n)) {
+                int[] expected = EdgeSorts.stableOrder(weights, n);
+                int[] values = random.ints(n).toArray();
+                int[] gathered = EdgeSorts.gather(values, expected);
+                for (int parallelism : new int[]{1, 2, 4, 16}) {
+                    int[] order = EdgeSorts.parallelStableOrder(weights, n, parallelism);
+                    assertArrayEquals(expected, order, "n = " + n + ", parallelism = " + parallelism);
+                    assertArrayEquals(gathered, EdgeSorts.parallelGather(values, order, parallelism),
+                            "gather, n = " + n + ", parallelism = " + parallelism);
+                }
+            }
+        }
+    }
+
+    // Negative weights, the full int range, all-equal weights, heavy ties and a small range
+    static int[][] intInputs(Random random, int n) {
+        int[][] inputs = new int[6][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = random.nextInt(2000) - 1000;
+            inputs[1][i] = switch (i % 3) {
+                case 0 -> random.nextInt();
+                case 1 -> Integer.MIN_VALUE;
+                default -> Integer.MAX_VALUE;
+            };
+            inputs[2][i] = 42;
+            inputs[3][i] = random.nextInt(3);
+            inputs[4][i] = random.nextInt(1 << 24) - (1 << 23);
+            inputs[5][i] = random.nextInt();
+        }
+        return inputs;
+    }
+
+    // Stable by index: sorted() on an ordered stream keeps equal weights in input order
+    static int[] reference(int[] weights, int n) {
+        return IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingInt(i -> weights[i])).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,212 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Random edit/undo/redo sequences, driven the way KruskalController drives the log and checked
+// against a model that keeps a full copy of the graph after every entry
+class EditHistoryTest {
+
+    // Layout of one graph, shared by every state of it and moved in place like a vertex drag
+    private static class Layout {
+        double[] x;
+        double[] y;
+    }
+
+    private static class Graph {
+        final int vertices;
+        final int[] labels;
+        final Layout layout;
+        final List<int[]> edges;
+
+        Graph(int vertices, int[] labels, Layout layout, List<int[]> edges) {
+            this.vertices = vertices;
+            this.labels = labels;
+            this.layout = layout;
+            this.edges = edges;
+        }
+    }
+
+    @Test
+    void undoAndRedoMatchModel() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            EditHistory history = new EditHistory();
+            List<Graph> states = new ArrayList<>(); // Graph after each entry, null for none
+            List<Integer> types = new ArrayList<>(); // Type of the entry that led to each state
+            states.add(null);
+            types.add(EditHistory.NONE);
+            int cursor = 0;
+            for (int step = 0; step < 3000; step++) {
+                Graph current = states.get(cursor);
+                int action = random.nextInt(100);
+                if (action < 40 && current != null) {
+                    int[] edge = {random.nextInt(current.vertices), random.nextInt(current.vertices),
+                            random.nextInt(50) - 10};
+                    history.recordAddEdge(edge[0], edge[1], edge[2]);
+                    List<int[]> edges = new ArrayList<>(current.edges);
+                    edges.add(edge);
+                    cursor = push(states, types, cursor, EditHistory.ADD_EDGE,
+                            new Graph(current.vertices, current.labels, current.layout, edges));
+                } else if (action < 44) {
+                    int vertices = 1 + random.nextInt(30);
+                    Layout layout = randomLayout(random, vertices);
+                    int[] labels = random.ints(vertices).toArray();
+                    history.recordCreate(new EditHistory.GraphState(vertices, layout.x, layout.y, labels),
+                            current != null ? current.layout.x : null, current != null ? current.layout.y : null);
+                    cursor = push(states, types, cursor, EditHistory.CREATE_GRAPH,
+                            new Graph(vertices, labels, layout, new ArrayList<>()));
+                } else if (action < 46 && current != null) {
+                    history.recordClear(current.layout.x, current.layout.y);
+                    cursor = push(states, types, cursor, EditHistory.CLEAR_GRAPH, null);
+                } else if (action < 50 && current != null) {
+                    Layout moved = randomLayout(random, current.vertices);
+                    current.layout.x = moved.x;
+                    current.layout.y = moved.y;
+                } else if (action < 78) {
+                    int type = history.peekUndo();
+                    assertEquals((int) types.get(cursor), type);
+                    assertEquals(type != EditHistory.NONE, history.canUndo());
+                    if (type == EditHistory.NONE) {
+                        continue;
+                    }
+                    if (type == EditHistory.ADD_EDGE) {
+                        assertArrayEquals(current.edges.get(current.edges.size() - 1), history.undoEdge());
+                    } else {
+                        EditHistory.GraphState restored = history.undoReplace(
+                                current != null ? current.layout.x : null, current != null ? current.layout.y : null);
+                        assertSame(states.get(cursor - 1), restored);
+                    }
+                    cursor--;
+                } else {
+                    int type = history.peekRedo();
+                    assertEquals(cursor + 1 < states.size() ? types.get(cursor + 1) : EditHistory.NONE, type);
+                    assertEquals(type != EditHistory.NONE, history.canRedo());
+                    if (type == EditHistory.NONE) {
+                        continue;
+                    }
+                    Graph next = states.get(cursor + 1);
+                    if (type == EditHistory.ADD_EDGE) {
+                        assertArrayEquals(next.edges.get(next.edges.size() - 1), history.redoEdge());
+                    } else {
+                        // A created graph comes back without edges, which are redone one by one
+                        EditHistory.GraphState created = history.redoReplace(
+                                current != null ? current.layout.x : null, current != null ? current.layout.y : null);
+                        assertSame(next, created);
+                    }
+                    cursor++;
+                }
+                assertEquals(states.size() - 1, history.size());
+            }
+        }
+    }
+
+    @Test
+    void newEntryDropsRedo() {
+        EditHistory history = new EditHistory();
+        history.recordCreate(new EditHistory.GraphState(3, new double[3], new double[3], new int[]{0, 1, 2}),
+                null, null);
+        history.recordAddEdge(0, 1, 4);
+        history.recordAddEdge(1, 2, 5);
+        history.undoEdge();
+        assertEquals(EditHistory.ADD_EDGE, history.peekRedo());
+        history.recordAddEdge(0, 2, 6);
+        assertEquals(EditHistory.NONE, history.peekRedo());
+        assertFalse(history.canRedo());
+        assertEquals(3, history.size());
+        assertArrayEquals(new int[]{0, 2, 6}, history.undoEdge());
+        assertArrayEquals(new int[]{0, 1, 4}, history.undoEdge());
+        assertThrows(IllegalStateException.class, history::undoEdge);
+    }
+
+    @Test
+    void trimsOldestEntriesToBudget() {
+        long budget = 1000;
+        EditHistory history = new EditHistory(budget);
+        history.recordCreate(new EditHistory.GraphState(10, new double[10], new double[10], new int[10]),
+                null, null);
+        for (int i = 0; i < 100; i++) {
+            history.recordAddEdge(i % 10, (i + 1) % 10, i);
+            assertTrue(history.getUsedBytes() <= budget);
+        }
+        int kept = history.size();
+        assertTrue(kept < 101);
+        for (int i = 0; i < kept; i++) {
+            assertArrayEquals(new int[]{(99 - i) % 10, (100 - i) % 10, 99 - i}, history.undoEdge());
+        }
+        // The graph the first kept edge was added to is gone
+        assertEquals(EditHistory.NONE, history.peekUndo());
+        assertFalse(history.canUndo());
+        assertEquals(EditHistory.ADD_EDGE, history.peekRedo());
+    }
+
+    @Test
+    void replacementOfTrimmedGraphCannotBeUndone() {
+        EditHistory history = new EditHistory(600);
+        history.recordCreate(new EditHistory.GraphState(10, new double[10], new double[10], new int[10]),
+                null, null);
+        for (int i = 0; i < 40; i++) {
+            history.recordAddEdge(0, 1, i);
+        }
+        history.recordClear(new double[10], new double[10]);
+        assertEquals(EditHistory.NONE, history.peekUndo());
+        assertThrows(IllegalStateException.class, () -> history.undoReplace(null, null));
+        history.recordCreate(new EditHistory.GraphState(2, new double[2], new double[2], new int[2]), null, null);
+        assertEquals(EditHistory.CREATE_GRAPH, history.peekUndo());
+        assertNull(history.undoReplace(new double[2], new double[2])); // Back to the cleared state
+        assertEquals(EditHistory.NONE, history.peekUndo());
+    }
+
+    @Test
+    void rejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new EditHistory(0));
+        assertThrows(IllegalArgumentException.class, () -> new EditHistory(-1));
+    }
+
+    // Drops the states that could have been redone and appends the new one
+    private static int push(List<Graph> states, List<Integer> types, int cursor, int type, Graph graph) {
+        states.subList(cursor + 1, states.size()).clear();
+        types.subList(cursor + 1, types.size()).clear();
+        states.add(graph);
+        types.add(type);
+        return cursor + 1;
+    }
+
+    private static Layout randomLayout(Random random, int vertices) {
+        Layout layout = new Layout();
+        layout.x = random.doubles(vertices).toArray();
+        layout.y = random.doubles(vertices).toArray();
+        return layout;
+    }
+
+    private static void assertSame(Graph expected, EditHistory.GraphState actual) {
+        if (expected == null) {
+            assertNull(actual);
+            return;
+        }
+        assertNotNull(actual);
+        assertEquals(expected.vertices, actual.getVertices());
+        assertArrayEquals(expected.labels, actual.getLabels());
+        assertArrayEquals(expected.layout.x, actual.getX());
+        assertArrayEquals(expected.layout.y, actual.getY());
+        EdgeList edges = actual.getEdges();
+        assertEquals(expected.edges.size(), edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            int[] edge = expected.edges.get(i);
+            assertEquals(edge[0], edges.getSource(i));
+            assertEquals(edge[1], edges.getDestination(i));
+            assertEquals(edge[2], edges.getWeight(i));
+        }
+    }
+}
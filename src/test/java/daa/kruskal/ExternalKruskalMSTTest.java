@@ -0,0 +1,89 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalKruskalMSTTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void matchesKruskalForAnyChunkSize() throws IOException {
+        for (int[] shape : TestGraphs.SHAPES) {
+            if (shape[1] == 0 || shape[1] > 20000) {
+                continue;
+            }
+            EdgeList edges = TestGraphs.randomEdges(new Random(shape[1]), shape[0], shape[1], shape[2]);
+            Path file = write(edges);
+            int vertices = maxId(edges) + 1;
+            MSTResult expected = KruskalMST.compute(vertices, edges.copy(), false);
+            // Small chunks give thousands of runs, more than one merge can open at once
+            for (int chunkEdges : new int[]{shape[1] <= 3000 ? 1 : 5, 1000, shape[1]}) {
+                Path temp = Files.createDirectory(dir.resolve("runs-" + chunkEdges + "-" + shape[1]));
+                TestGraphs.assertSameTree(expected, ExternalKruskalMST.compute(file, temp, chunkEdges));
+                try (Stream<Path> left = Files.list(temp)) {
+                    assertEquals(0, left.count(), "run files left behind");
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsNegativeVertexIdsWithTheLine() throws IOException {
+        Path file = dir.resolve("edges.txt");
+        Files.writeString(file, "# u v w\n0 1 4\n\n-1 2 3\n");
+        IOException error = assertThrows(IOException.class, () -> ExternalKruskalMST.compute(file, dir, 16));
+        assertTrue(error.getMessage().contains("line 4"), error.getMessage());
+    }
+
+    @Test
+    void readsPastByteOrderMarkAndNonAsciiComments() throws IOException {
+        Path file = dir.resolve("edges.txt");
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        String text = "% Gewichte in \u20ac, Kanten \u00fcber Br\u00fccken\n0 1 4\n# \u00e9t\u00e9\n1 2 3\n2 3 7\n0 3 1\n";
+        Files.write(file, bom);
+        Files.writeString(file, text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        MSTResult result = ExternalKruskalMST.compute(file, dir, 2);
+        assertEquals(3, result.getEdgeCount());
+        assertEquals(8, result.getTotalWeight());
+    }
+
+    @Test
+    void rejectsNonPositiveChunkSize() throws IOException {
+        Path file = dir.resolve("edges.txt");
+        Files.writeString(file, "0 1 4\n");
+        assertThrows(IllegalArgumentException.class, () -> ExternalKruskalMST.compute(file, dir, 0));
+        assertThrows(IllegalArgumentException.class, () -> ExternalKruskalMST.compute(file, dir, -5));
+    }
+
+    private Path write(EdgeList edges) throws IOException {
+        StringBuilder text = new StringBuilder("% generated\n");
+        for (int i = 0; i < edges.size(); i++) {
+            text.append(edges.getSource(i)).append(' ').append(edges.getDestination(i)).append('\t')
+                    .append(edges.getWeight(i)).append('\n');
+        }
+        Path file = Files.createTempFile(dir, "edges", ".txt");
+        Files.writeString(file, text);
+        return file;
+    }
+
+    private static int maxId(EdgeList edges) {
+        int max = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            max = Math.max(max, Math.max(edges.getSource(i), edges.getDestination(i)));
+        }
+        return max;
+    }
+}
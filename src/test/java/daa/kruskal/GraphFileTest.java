@@ -0,0 +1,125 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphFileTest {
+    private static final int VERTICES = 300;
+    private static final int EDGES = 3000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsIntWeights() throws IOException {
+        for (boolean sorted : new boolean[]{false, true}) {
+            for (boolean csr : new boolean[]{false, true}) {
+                EdgeList edges = TestGraphs.randomEdges(new Random(1), VERTICES, EDGES, 100);
+                Path file = dir.resolve("int-" + sorted + "-" + csr + ".kgr");
+                GraphFile.write(file, VERTICES, edges, sorted, csr);
+                MappedGraph graph = GraphFile.open(file, true);
+
+                assertEquals(GraphFile.WeightType.INT32, graph.getWeightType());
+                assertEquals(sorted, graph.isSortedByWeight());
+                assertEquals(csr, graph.hasCSR());
+                EdgeList read = graph.toEdgeList();
+                assertArrayEquals(edges.sources(), read.sources());
+                assertArrayEquals(edges.destinations(), read.destinations());
+                assertArrayEquals(edges.weights(), read.weights());
+
+                MSTResult expected = KruskalMST.compute(VERTICES, edges.copy(), false);
+                assertEquals(expected.getTotalWeight(), KruskalMST.compute(graph).getTotalWeight());
+                assertEquals(expected.getTotalWeight(), KruskalMST.computeLong(graph).totalWeight());
+                assertEquals(expected.getTotalWeight(), KruskalMST.computeDouble(graph).totalWeight());
+                assertEquals(expected.getTotalWeight(), PrimMST.compute(graph.toCSRGraph()).getTotalWeight());
+            }
+        }
+    }
+
+    @Test
+    void roundTripsLongWeights() throws IOException {
+        for (boolean sorted : new boolean[]{false, true}) {
+            Random random = new Random(2);
+            LongEdgeList edges = new LongEdgeList();
+            LongEdgeList copy = new LongEdgeList();
+            for (int i = 0; i < EDGES; i++) {
+                int u = random.nextInt(VERTICES);
+                int v = random.nextInt(VERTICES);
+                long w = random.nextLong() >> 8; // Wider than an int, small enough to sum
+                edges.add(u, v, w);
+                copy.add(u, v, w);
+            }
+            Path file = dir.resolve("long-" + sorted + ".kgr");
+            GraphFile.write(file, VERTICES, edges, sorted);
+            MappedGraph graph = GraphFile.open(file, true);
+
+            assertEquals(GraphFile.WeightType.INT64, graph.getWeightType());
+            LongEdgeList read = graph.toLongEdgeList();
+            assertArrayEquals(Arrays.copyOf(edges.sources(), EDGES), read.sources());
+            assertArrayEquals(Arrays.copyOf(edges.weights(), EDGES), read.weights());
+            assertEquals(KruskalMST.compute(VERTICES, copy).totalWeight(), KruskalMST.computeLong(graph).totalWeight());
+            assertThrows(IllegalArgumentException.class, () -> KruskalMST.compute(graph));
+            assertThrows(IllegalStateException.class, graph::toEdgeList);
+        }
+    }
+
+    @Test
+    void roundTripsDoubleWeights() throws IOException {
+        for (boolean sorted : new boolean[]{false, true}) {
+            Random random = new Random(3);
+            DoubleEdgeList edges = new DoubleEdgeList();
+            DoubleEdgeList copy = new DoubleEdgeList();
+            for (int i = 0; i < EDGES; i++) {
+                int u = random.nextInt(VERTICES);
+                int v = random.nextInt(VERTICES);
+                double w = random.nextInt(1000) / 8.0 - 20; // Exact in binary, so sums do not depend on order
+                edges.add(u, v, w);
+                copy.add(u, v, w);
+            }
+            Path file = dir.resolve("double-" + sorted + ".kgr");
+            GraphFile.write(file, VERTICES, edges, sorted);
+            MappedGraph graph = GraphFile.open(file, true);
+
+            assertEquals(GraphFile.WeightType.FLOAT64, graph.getWeightType());
+            DoubleEdgeList read = graph.toDoubleEdgeList();
+            assertArrayEquals(Arrays.copyOf(edges.destinations(), EDGES), read.destinations());
+            assertArrayEquals(Arrays.copyOf(edges.weights(), EDGES), read.weights());
+            assertEquals(KruskalMST.compute(VERTICES, copy).totalWeight(), KruskalMST.computeDouble(graph).totalWeight());
+            assertThrows(IllegalArgumentException.class, () -> KruskalMST.compute(graph));
+            assertThrows(IllegalStateException.class, () -> KruskalMST.computeLong(graph));
+        }
+    }
+
+    @Test
+    void limitDependsOnSectionWidth() {
+        assertEquals(Integer.MAX_VALUE / 4, GraphFile.maxEdges(GraphFile.WeightType.INT32, false));
+        assertEquals(Integer.MAX_VALUE / 8, GraphFile.maxEdges(GraphFile.WeightType.INT32, true));
+        assertEquals(Integer.MAX_VALUE / 8, GraphFile.maxEdges(GraphFile.WeightType.INT64, false));
+        assertEquals(Integer.MAX_VALUE / 8, GraphFile.maxEdges(GraphFile.WeightType.FLOAT64, false));
+    }
+
+    @Test
+    void detectsCorruption() throws IOException {
+        EdgeList edges = TestGraphs.randomEdges(new Random(4), VERTICES, EDGES, 100);
+        Path file = dir.resolve("corrupt.kgr");
+        GraphFile.write(file, VERTICES, edges, false, false);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x5A}), GraphFile.HEADER_BYTES + 100);
+        }
+        IOException error = assertThrows(IOException.class, () -> GraphFile.open(file, true));
+        assertTrue(error.getMessage().contains("checksum"), error.getMessage());
+    }
+}
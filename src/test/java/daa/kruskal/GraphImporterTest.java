@@ -0,0 +1,130 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphImporterTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsMatrixMarketRealsWithSignedExponents() throws IOException {
+        Path file = dir.resolve("small.mtx");
+        Files.writeString(file, "%%MatrixMarket matrix coordinate real symmetric\n"
+                + "% weights in scientific notation\n"
+                + "4 4 7\n"
+                + "2 1 1.500000e+01\n"
+                + "3 1 2.5e-01\n"
+                + "3 2 -3.25E+02\n"
+                + "4 2 7.0e-1\n"
+                + "4 3 1e+00\n"
+                + "4 4 12.5\n"
+                + "4 1 0.1234567890123456789\n");
+        GraphImporter.Result result = GraphImporter.read(file);
+        assertTrue(result.hasRealWeights());
+        assertThrows(IllegalStateException.class, result::getEdgeList);
+        DoubleEdgeList edges = result.getDoubleEdgeList();
+        assertEquals(4, result.getVertices());
+        assertEquals(7, edges.size());
+        assertArrayEquals(new double[]{15, 0.25, -325, 0.7, 1, 12.5, 0.1234567890123456789},
+                Arrays.copyOf(edges.weights(), 7));
+        assertArrayEquals(new int[]{1, 2, 2, 3, 3, 3, 3}, Arrays.copyOf(edges.sources(), 7));
+        assertArrayEquals(new int[]{0, 0, 1, 1, 2, 3, 0}, Arrays.copyOf(edges.destinations(), 7));
+    }
+
+    @Test
+    void realWeightsKeepTheirOrder() throws IOException {
+        // Rounded to ints these would tie at 0 and 1, and the first-listed edges would win
+        Path file = dir.resolve("fractions.mtx");
+        Files.writeString(file, "%%MatrixMarket matrix coordinate real general\n"
+                + "3 3 3\n"
+                + "2 1 0.4\n"
+                + "3 2 0.6\n"
+                + "3 1 0.35\n");
+        GraphImporter.Result result = GraphImporter.read(file);
+        DoubleEdgeList tree = KruskalMST.compute(result.getVertices(), result.getDoubleEdgeList());
+        assertEquals(2, tree.size());
+        assertEquals(0.75, tree.totalWeight(), 1e-12);
+    }
+
+    @Test
+    void matchesParseDoubleOnRandomReals() throws IOException {
+        Random random = new Random(3);
+        StringBuilder text = new StringBuilder("%%MatrixMarket matrix coordinate real general\n10 10 5000\n");
+        double[] expected = new double[5000];
+        for (int i = 0; i < expected.length; i++) {
+            String value;
+            switch (i % 4) {
+                case 0 -> value = Double.toString(random.nextDouble());
+                case 1 -> value = String.format(Locale.ROOT, "%.6e", random.nextGaussian() * 1e6);
+                case 2 -> value = String.format(Locale.ROOT, "%.17g", random.nextDouble() * 1e-30);
+                default -> value = Long.toString(random.nextLong());
+            }
+            expected[i] = Double.parseDouble(value);
+            text.append(1 + random.nextInt(10)).append(' ').append(1 + random.nextInt(10)).append(' ')
+                    .append(value).append('\n');
+        }
+        Path file = dir.resolve("random.mtx");
+        Files.writeString(file, text);
+        for (int threads : new int[]{1, 4}) {
+            double[] actual = GraphImporter.read(file, GraphImporter.Format.MATRIX_MARKET, threads)
+                    .getDoubleEdgeList().weights();
+            assertArrayEquals(expected, Arrays.copyOf(actual, expected.length));
+        }
+    }
+
+    @Test
+    void rejectsMalformedExponent() throws IOException {
+        Path file = dir.resolve("bad.mtx");
+        Files.writeString(file, "%%MatrixMarket matrix coordinate real general\n2 2 1\n2 1 1.5e+\n");
+        assertThrows(IOException.class, () -> GraphImporter.read(file));
+    }
+
+    @Test
+    void sameEdgesAtAnyThreadCount() throws IOException {
+        Random random = new Random(5);
+        StringBuilder edgeList = new StringBuilder("# u v w\n");
+        StringBuilder dimacs = new StringBuilder("c generated\np sp 5000 200000\n");
+        for (int i = 0; i < 200_000; i++) {
+            int u = random.nextInt(5000);
+            int v = random.nextInt(5000);
+            int w = random.nextInt(1_000_000);
+            edgeList.append(u).append(' ').append(v).append(' ').append(w).append('\n');
+            dimacs.append("a ").append(u + 1).append(' ').append(v + 1).append(' ').append(w).append('\n');
+        }
+        Path text = dir.resolve("edges.txt");
+        Path gr = dir.resolve("edges.gr");
+        Files.writeString(text, edgeList);
+        Files.writeString(gr, dimacs);
+
+        EdgeList expected = GraphImporter.read(text, GraphImporter.Format.EDGE_LIST, 1).getEdgeList();
+        assertEquals(200_000, expected.size());
+        for (int threads : new int[]{2, 4, 16}) {
+            assertSame(expected, GraphImporter.read(text, GraphImporter.Format.EDGE_LIST, threads).getEdgeList());
+        }
+        for (int threads : new int[]{1, 4}) {
+            assertSame(expected, GraphImporter.read(gr, GraphImporter.Format.DIMACS, threads).getEdgeList());
+        }
+    }
+
+    private static void assertSame(EdgeList expected, EdgeList actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getSource(i), actual.getSource(i));
+            assertEquals(expected.getDestination(i), actual.getDestination(i));
+            assertEquals(expected.getWeight(i), actual.getWeight(i));
+        }
+    }
+}
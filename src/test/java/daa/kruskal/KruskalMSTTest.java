@@ -0,0 +1,79 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KruskalMSTTest {
+
+    @Test
+    void lazyGivesTheSameTreeAsFullSort() {
+        for (int[] shape : TestGraphs.SHAPES) {
+            for (int seed = 0; seed < 3; seed++) {
+                EdgeList edges = TestGraphs.randomEdges(new Random(seed), shape[0], shape[1], shape[2]);
+                EdgeList before = edges.copy();
+                MSTResult lazy = KruskalMST.computeLazy(shape[0], edges, false);
+                assertSameEdges(before, edges); // computeLazy leaves its input alone
+                TestGraphs.assertSameTree(KruskalMST.compute(shape[0], edges.copy(), false), lazy);
+                TestGraphs.assertSameTree(lazy, KruskalMST.computeLazy(shape[0], edges, true));
+            }
+        }
+    }
+
+    @Test
+    void lazyStopsAtTheForestSize() {
+        // All weights tie and the graph has two components, so the heap must stop after
+        // V - 2 accepted edges rather than drain
+        EdgeList edges = new EdgeList();
+        for (int u = 0; u < 10; u++) {
+            for (int v = u + 1; v < 10; v++) {
+                edges.add(u, v, 7);
+                edges.add(u + 10, v + 10, 7);
+            }
+        }
+        MSTResult lazy = KruskalMST.computeLazy(20, edges, true);
+        assertEquals(18, lazy.getEdgeCount());
+        assertEquals(18, lazy.getStepList().size()); // The star edges of 0 and 10 come first by index
+        TestGraphs.assertSameTree(KruskalMST.compute(20, edges.copy(), false), lazy);
+    }
+
+    @Test
+    void longAndDoubleListsMatchIntList() {
+        for (int[] shape : TestGraphs.SHAPES) {
+            EdgeList edges = TestGraphs.randomEdges(new Random(shape[1]), shape[0], shape[1], shape[2]);
+            LongEdgeList longs = new LongEdgeList(edges.size());
+            DoubleEdgeList doubles = new DoubleEdgeList(edges.size());
+            for (int i = 0; i < edges.size(); i++) {
+                longs.add(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+                doubles.add(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+            }
+            EdgeList expected = KruskalMST.compute(shape[0], edges, false).getEdgeList();
+            LongEdgeList longTree = KruskalMST.compute(shape[0], longs);
+            DoubleEdgeList doubleTree = KruskalMST.compute(shape[0], doubles);
+            assertEquals(expected.size(), longTree.size());
+            assertEquals(expected.size(), doubleTree.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.getSource(i), longTree.getSource(i));
+                assertEquals(expected.getDestination(i), longTree.getDestination(i));
+                assertEquals(expected.getWeight(i), longTree.getWeight(i));
+                assertEquals(expected.getSource(i), doubleTree.getSource(i));
+                assertEquals(expected.getDestination(i), doubleTree.getDestination(i));
+                assertEquals(expected.getWeight(i), doubleTree.getWeight(i));
+            }
+        }
+    }
+
+    private static void assertSameEdges(EdgeList expected, EdgeList actual) {
+        assertEquals(expected.size(), actual.size());
+        assertArrayEquals(Arrays.copyOf(expected.sources(), expected.size()),
+                Arrays.copyOf(actual.sources(), actual.size()));
+        assertArrayEquals(Arrays.copyOf(expected.destinations(), expected.size()),
+                Arrays.copyOf(actual.destinations(), actual.size()));
+        assertArrayEquals(Arrays.copyOf(expected.weights(), expected.size()),
+                Arrays.copyOf(actual.weights(), actual.size()));
+    }
+}
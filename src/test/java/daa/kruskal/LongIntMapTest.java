@@ -0,0 +1,89 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Random put/remove sequences checked against a HashMap. Small key spaces keep the table
+// churning through resizes and long probe runs, which is where backward-shift deletion can
+// lose or strand an entry.
+class LongIntMapTest {
+
+    @Test
+    void matchesHashMap() {
+        // {distinct keys, operations, percent of puts}
+        int[][] runs = {
+                {1, 200, 50},
+                {20, 5000, 50},
+                {300, 20000, 60},
+                {5000, 50000, 40},
+                {50000, 100000, 70},
+        };
+        for (int[] run : runs) {
+            for (int seed = 0; seed < 3; seed++) {
+                check(run[0], run[1], run[2], new Random(seed));
+            }
+        }
+    }
+
+    @Test
+    void clearEmptiesTheMap() {
+        LongIntMap map = new LongIntMap(4);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertFalse(map.containsKey(i));
+        }
+        assertEquals(LongIntMap.MISSING, map.put(7, 0));
+        assertEquals(0, map.get(7));
+    }
+
+    @Test
+    void rejectsValuesItCannotStore() {
+        LongIntMap map = new LongIntMap();
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, Integer.MAX_VALUE));
+        assertEquals(LongIntMap.MISSING, map.put(1, Integer.MAX_VALUE - 1));
+    }
+
+    private static void check(int distinctKeys, int operations, int putPercent, Random random) {
+        // Packed vertex pairs, the keys DynamicMST and EdgeIndex store, plus negative keys
+        long[] keySpace = new long[distinctKeys];
+        for (int i = 0; i < distinctKeys; i++) {
+            keySpace[i] = i % 3 == 0 ? -random.nextLong(1L << 40) - 1
+                    : DynamicMST.pairKey(random.nextInt(1000), random.nextInt(1000));
+        }
+        LongIntMap map = new LongIntMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int op = 0; op < operations; op++) {
+            long key = keySpace[random.nextInt(distinctKeys)];
+            if (random.nextInt(100) < putPercent) {
+                int value = random.nextInt(1 << 20);
+                Integer previous = expected.put(key, value);
+                assertEquals(previous == null ? LongIntMap.MISSING : previous, map.put(key, value));
+            } else {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntMap.MISSING : removed, map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+            if (op % 10000 == 0 || distinctKeys <= 20) {
+                for (long k : keySpace) {
+                    assertEquals(expected.getOrDefault(k, LongIntMap.MISSING), map.get(k));
+                }
+            }
+        }
+        for (long k : keySpace) {
+            assertEquals(expected.getOrDefault(k, LongIntMap.MISSING), map.get(k));
+            assertEquals(expected.containsKey(k), map.containsKey(k));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MinimumSpanningTreeTest {
+
+    @Test
+    void everyEngineFindsAMinimumSpanningForest() {
+        for (int[] shape : TestGraphs.SHAPES) {
+            for (int seed = 0; seed < 3; seed++) {
+                EdgeList edges = TestGraphs.randomEdges(new Random(seed), shape[0], shape[1], shape[2]);
+                MSTResult expected = KruskalMST.compute(shape[0], edges.copy(), false);
+                for (MSTAlgorithm algorithm : MSTAlgorithm.values()) {
+                    TestGraphs.assertSameWeight(shape[0], expected, MinimumSpanningTree.compute(shape[0], edges, algorithm));
+                }
+            }
+        }
+    }
+
+    @Test
+    void leavesInputUntouchedWhicheverEngineRuns() {
+        EdgeList edges = TestGraphs.randomEdges(new Random(2), 500, 5000, 100);
+        EdgeList before = edges.copy();
+        for (MSTAlgorithm algorithm : MSTAlgorithm.values()) {
+            MinimumSpanningTree.compute(500, edges, algorithm);
+            assertArrayEquals(before.sources(), edges.sources(), algorithm.name());
+            assertArrayEquals(before.destinations(), edges.destinations(), algorithm.name());
+            assertArrayEquals(before.weights(), edges.weights(), algorithm.name());
+        }
+    }
+
+    @Test
+    void choosesPrimForDenseGraphs() {
+        assertEquals(MSTAlgorithm.PRIM, MinimumSpanningTree.choose(100, 4950));
+        assertEquals(MSTAlgorithm.KRUSKAL, MinimumSpanningTree.choose(100_000, 400_000));
+    }
+
+    @Test
+    void thresholdCanBeOverridden() {
+        // Density 0.01: Kruskal by default, Prim once the threshold drops below it
+        assertEquals(MSTAlgorithm.KRUSKAL, MinimumSpanningTree.choose(1000, 10_000));
+        assertEquals(MSTAlgorithm.PRIM, MinimumSpanningTree.choose(1000, 10_000, 0.01));
+        assertEquals(MSTAlgorithm.KRUSKAL, MinimumSpanningTree.choose(100, 4950, 1.0));
+        assertEquals(MSTAlgorithm.KRUSKAL, MinimumSpanningTree.choose(1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> MinimumSpanningTree.choose(100, 10, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> MinimumSpanningTree.choose(100, 10, Double.NaN));
+        WeightedGraph graph = new WeightedGraph(4);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(0, 3, 5);
+        assertEquals(6, MinimumSpanningTree.compute(graph, 0).getTotalWeight());
+        assertEquals(6, MinimumSpanningTree.compute(graph, 1.0).getTotalWeight());
+    }
+}
@@ -0,0 +1,55 @@
+package daa.kruskal;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Random inputs and MST comparisons shared by the engine tests
+final class TestGraphs {
+    // {vertices, edges, weight range}: empty, tiny, disconnected, heavy on parallel edges and
+    // ties, and large enough to reach the recursive and parallel paths of the engines
+    static final int[][] SHAPES = {
+            {1, 0, 1},
+            {2, 6, 3},
+            {60, 40, 5},
+            {200, 3000, 8},
+            {5000, 20000, 1000},
+            {3000, 150000, 1 << 20},
+    };
+
+    private TestGraphs() {
+    }
+
+    // Uniform endpoints, so self-loops and parallel edges show up; weights may be negative
+    static EdgeList randomEdges(Random random, int vertices, int edges, int weightRange) {
+        EdgeList list = new EdgeList(edges);
+        for (int i = 0; i < edges; i++) {
+            list.add(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(weightRange) - weightRange / 2);
+        }
+        return list;
+    }
+
+    // Same tree edges in the same order
+    static void assertSameTree(MSTResult expected, MSTResult actual) {
+        assertEquals(expected.getTotalWeight(), actual.getTotalWeight(), "total weight");
+        EdgeList want = expected.getEdgeList();
+        EdgeList got = actual.getEdgeList();
+        assertEquals(want.size(), got.size(), "edge count");
+        for (int i = 0; i < want.size(); i++) {
+            assertEquals(want.getSource(i), got.getSource(i), "source of edge " + i);
+            assertEquals(want.getDestination(i), got.getDestination(i), "destination of edge " + i);
+            assertEquals(want.getWeight(i), got.getWeight(i), "weight of edge " + i);
+        }
+    }
+
+    // A minimum spanning forest, possibly with different edges among ties
+    static void assertSameWeight(int vertices, MSTResult expected, MSTResult actual) {
+        assertEquals(expected.getTotalWeight(), actual.getTotalWeight(), "total weight");
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount(), "edge count");
+        UnionFind uf = new UnionFind(vertices);
+        EdgeList got = actual.getEdgeList();
+        for (int i = 0; i < got.size(); i++) {
+            assertEquals(true, uf.union(got.getSource(i), got.getDestination(i)), "edge " + i + " closes a cycle");
+        }
+    }
+}
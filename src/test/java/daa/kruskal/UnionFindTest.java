@@ -0,0 +1,107 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnionFindTest {
+
+    @Test
+    void matchesNaiveLabels() {
+        for (int n : new int[]{1, 2, 10, 300, 5000}) {
+            Random random = new Random(n);
+            UnionFind uf = new UnionFind(n);
+            int[] label = new int[n]; // Naive reference: relabel a whole component on every merge
+            for (int i = 0; i < n; i++) {
+                label[i] = i;
+            }
+            int components = n;
+            for (int step = 0; step < 3 * n; step++) {
+                int x = random.nextInt(n);
+                int y = random.nextInt(n);
+                boolean merges = label[x] != label[y];
+                if (merges) {
+                    int from = label[y];
+                    for (int i = 0; i < n; i++) {
+                        if (label[i] == from) {
+                            label[i] = label[x];
+                        }
+                    }
+                    components--;
+                }
+                assertEquals(merges, uf.union(x, y));
+                assertEquals(components, uf.getComponentCount());
+                int a = random.nextInt(n);
+                int b = random.nextInt(n);
+                assertEquals(label[a] == label[b], uf.connected(a, b));
+                int size = 0;
+                for (int i = 0; i < n; i++) {
+                    if (label[i] == label[a]) {
+                        size++;
+                    }
+                }
+                assertEquals(size, uf.componentSize(a));
+            }
+        }
+    }
+
+    @Test
+    void unionBySizeKeepsTheLargerRoot() {
+        UnionFind uf = new UnionFind(6);
+        assertTrue(uf.union(0, 1));
+        assertEquals(0, uf.find(1)); // Equal sizes: the first argument's root stays
+        assertTrue(uf.union(3, 2));
+        assertEquals(3, uf.find(2));
+        assertTrue(uf.union(1, 2)); // Sizes 2 and 2
+        assertEquals(0, uf.find(3));
+        assertTrue(uf.union(4, 3)); // Size 1 goes under size 4
+        assertEquals(0, uf.find(4));
+        assertEquals(5, uf.componentSize(2));
+        assertFalse(uf.union(2, 4));
+        assertFalse(uf.union(4, 4));
+        assertEquals(2, uf.getComponentCount());
+    }
+
+    @Test
+    void singletonsAreOnlyConnectedToThemselves() {
+        UnionFind uf = new UnionFind(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(uf.connected(i, i));
+            assertEquals(1, uf.componentSize(i));
+            assertEquals(i, uf.find(i));
+        }
+        assertFalse(uf.connected(0, 3));
+        assertEquals(4, uf.getComponentCount());
+        assertEquals(4, uf.getSize());
+    }
+
+    @Test
+    void longChainsNeedNoRecursion() {
+        int n = 2_000_000;
+        UnionFind uf = new UnionFind(n);
+        for (int i = n - 1; i > 0; i--) {
+            assertTrue(uf.union(i - 1, i));
+        }
+        assertEquals(1, uf.getComponentCount());
+        assertEquals(n, uf.componentSize(0));
+        assertTrue(uf.connected(0, n - 1));
+        assertFalse(uf.union(n - 1, 0));
+    }
+
+    @Test
+    void bulkCallsMatchSingleCalls() {
+        int[] a = {0, 1, 2, 0, 5, 5};
+        int[] b = {1, 2, 0, 3, 5, 4};
+        UnionFind uf = new UnionFind(7);
+        assertEquals(4, uf.union(a, b));
+        assertArrayEquals(new boolean[]{true, false, true}, uf.connected(new int[]{3, 6, 4}, new int[]{2, 0, 5}));
+        assertThrows(IllegalArgumentException.class, () -> uf.union(new int[1], new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> uf.connected(new int[2], new int[1]));
+    }
+}
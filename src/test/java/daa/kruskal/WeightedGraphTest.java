@@ -0,0 +1,129 @@
+package daa.kruskal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedGraphTest {
+
+    @Test
+    void getEdgeListEmitsEachPairOnce() {
+        for (int seed = 0; seed < 5; seed++) {
+            Random random = new Random(seed);
+            int vertices = 30;
+            WeightedGraph graph = new WeightedGraph(vertices);
+            Map<Long, List<Integer>> weights = new HashMap<>(); // (min, max) -> weights of its edges
+            for (int i = 0; i < 400; i++) {
+                int u = random.nextInt(vertices);
+                int v = i % 5 == 0 ? u : random.nextInt(vertices); // Many self-loops and parallel edges
+                int w = random.nextInt(50) - 10;
+                graph.addEdge(u, v, w);
+                weights.computeIfAbsent(pair(u, v), key -> new ArrayList<>()).add(w);
+            }
+            EdgeList edges = graph.getEdgeList();
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < edges.size(); i++) {
+                int u = edges.getSource(i);
+                int v = edges.getDestination(i);
+                assertTrue(u <= v, "edge " + i + " not emitted from its lower endpoint");
+                assertTrue(seen.add(pair(u, v)), "pair (" + u + ", " + v + ") emitted twice");
+                assertEquals(Collections.min(weights.get(pair(u, v))), edges.getWeight(i),
+                        "edge " + i + " does not carry the lightest parallel weight");
+            }
+            assertEquals(weights.keySet(), seen);
+            assertEquals(edges.size(), graph.getAllEdges().size());
+        }
+    }
+
+    private static long pair(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    @Test
+    void trackedMSTFollowsEditsWithParallelEdges() {
+        for (int seed = 0; seed < 5; seed++) {
+            Random random = new Random(seed);
+            int vertices = 40;
+            WeightedGraph graph = new WeightedGraph(vertices);
+            DynamicMST tracked = graph.trackMST();
+            for (int step = 0; step < 1500; step++) {
+                int u = random.nextInt(vertices);
+                int v = random.nextInt(vertices);
+                if (random.nextInt(100) < 65) {
+                    graph.addEdge(u, v, random.nextInt(20) - 5); // Often a parallel edge or a self-loop
+                } else {
+                    graph.removeEdge(u, v);
+                }
+                MSTResult expected = KruskalMST.compute(graph);
+                assertEquals(expected.getTotalWeight(), tracked.getTotalWeight(), "step " + step);
+                assertEquals(expected.getEdgeCount(), tracked.getTreeEdgeCount(), "step " + step);
+            }
+        }
+    }
+
+    @Test
+    void connectedDoesNotStartTracking() {
+        WeightedGraph graph = new WeightedGraph(5);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(3, 3, 1);
+        assertTrue(graph.connected(0, 2));
+        assertFalse(graph.connected(0, 3));
+        assertTrue(graph.connected(4, 4));
+        assertNull(graph.getTrackedMST());
+
+        graph.trackMST();
+        assertTrue(graph.connected(2, 0));
+        assertFalse(graph.connected(3, 4));
+    }
+
+    @Test
+    void fromEdgesMatchesAddEdgeOrder() {
+        for (int[] shape : TestGraphs.SHAPES) {
+            Random random = new Random(shape[0]);
+            EdgeList edges = TestGraphs.randomEdges(random, shape[0], shape[1], shape[2]);
+            checkFromEdges(shape[0], edges);
+        }
+        // Most edges on one hub, so some threads get an empty range of vertices
+        Random random = new Random(9);
+        int vertices = 20000;
+        EdgeList edges = new EdgeList();
+        for (int i = 0; i < 60000; i++) {
+            int u = i % 3 == 0 ? random.nextInt(vertices) : 1;
+            edges.add(u, random.nextInt(vertices), random.nextInt(100));
+        }
+        checkFromEdges(vertices, edges);
+    }
+
+    private static void checkFromEdges(int vertices, EdgeList edges) {
+        WeightedGraph expected = new WeightedGraph(vertices);
+        for (int i = 0; i < edges.size(); i++) {
+            expected.addEdge(edges.getSource(i), edges.getDestination(i), edges.getWeight(i));
+        }
+        for (int threads : new int[]{1, 4, 16}) {
+            WeightedGraph actual = WeightedGraph.fromEdges(vertices, edges, threads);
+            assertEquals(vertices, actual.getVertices());
+            for (int u = 0; u < vertices; u++) {
+                List<Edge> want = expected.getNeighbors(u);
+                List<Edge> got = actual.getNeighbors(u);
+                assertEquals(want.size(), got.size(), "degree of " + u);
+                for (int i = 0; i < want.size(); i++) {
+                    assertEquals(want.get(i).getDestination(), got.get(i).getDestination(), "neighbour " + i + " of " + u);
+                    assertEquals(want.get(i).getWeight(), got.get(i).getWeight(), "neighbour " + i + " of " + u);
+                }
+            }
+        }
+    }
+}